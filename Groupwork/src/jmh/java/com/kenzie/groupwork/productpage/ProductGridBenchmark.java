@@ -0,0 +1,183 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalogGenerator;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering a 48 product search grid one ProductPage at a time with ProductGridRenderer on pools of 1, 2
+ * and 4 workers.
+ *
+ * The score is products per second per core: each benchmark counts the grid as 48 operations divided by the workers
+ * rendering it, so a renderer that scales perfectly scores the same on every pool. This holds on machines with at
+ * least 4 cores; with fewer, the larger pools share cores and score lower.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductGridBenchmark {
+
+    static final int GRID_SIZE = 48;
+
+    private static final long SEED = 42L;
+    private static final int CATALOG_SIZE = 10_000;
+    private static final Integer LONGEST = 160;
+
+    private final StyledMediaUrlCache urlCache = new StyledMediaUrlCache();
+
+    private List<ProductV2> grid;
+
+    /**
+     * Creates the grid.
+     */
+    @Setup
+    public void setup() {
+        grid = new ArrayList<>(new SyntheticCatalogGenerator(SEED).generate(CATALOG_SIZE, 1)
+                .products()
+                .subList(0, GRID_SIZE));
+    }
+
+    /**
+     * The current path: a ProductPage per product, on the calling thread.
+     *
+     * @return the number of main images found
+     */
+    @Benchmark
+    @OperationsPerInvocation(GRID_SIZE)
+    public int sequentialProductPages() {
+        int images = 0;
+        for (ProductV2 product : grid) {
+            final ProductPage productPage = new ProductPage(product, urlCache);
+            productPage.getFirstBuyingOption();
+            final Optional<String> mainImageUrl = productPage.extractMainImageUrl(LONGEST);
+            if (mainImageUrl.isPresent()) {
+                images++;
+            }
+        }
+        return images;
+    }
+
+    /**
+     * Renders the grid on a pool of 1 worker.
+     *
+     * @param workers the renderer
+     * @return the cells
+     */
+    @Benchmark
+    @OperationsPerInvocation(GRID_SIZE)
+    public List<ProductGridCell> renderer1Worker(final OneWorker workers) {
+        return workers.render(grid);
+    }
+
+    /**
+     * Renders the grid on a pool of 2 workers.
+     *
+     * @param workers the renderer
+     * @return the cells
+     */
+    @Benchmark
+    @OperationsPerInvocation(GRID_SIZE / 2)
+    public List<ProductGridCell> renderer2Workers(final TwoWorkers workers) {
+        return workers.render(grid);
+    }
+
+    /**
+     * Renders the grid on a pool of 4 workers.
+     *
+     * @param workers the renderer
+     * @return the cells
+     */
+    @Benchmark
+    @OperationsPerInvocation(GRID_SIZE / 4)
+    public List<ProductGridCell> renderer4Workers(final FourWorkers workers) {
+        return workers.render(grid);
+    }
+
+    /**
+     * A renderer on its own pool. The parallelism is fixed per subclass so each benchmark can divide its operations
+     * by it.
+     */
+    public abstract static class Workers {
+        private final int parallelism;
+        private ForkJoinPool pool;
+        private ProductGridRenderer renderer;
+
+        Workers(final int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Creates the pool and the renderer under test.
+         */
+        @Setup
+        public void setup() {
+            pool = new ForkJoinPool(parallelism);
+            renderer = new ProductGridRenderer(pool, ProductGridRenderer.DEFAULT_LEAF_SIZE, new StyledMediaUrlCache(),
+                    null);
+        }
+
+        /**
+         * Stops the pool's workers.
+         */
+        @TearDown
+        public void tearDown() {
+            pool.shutdownNow();
+        }
+
+        List<ProductGridCell> render(final List<ProductV2> grid) {
+            return renderer.render(grid, LONGEST);
+        }
+    }
+
+    /**
+     * A renderer on 1 worker.
+     */
+    @State(Scope.Benchmark)
+    public static class OneWorker extends Workers {
+        public OneWorker() {
+            super(1);
+        }
+    }
+
+    /**
+     * A renderer on 2 workers.
+     */
+    @State(Scope.Benchmark)
+    public static class TwoWorkers extends Workers {
+        public TwoWorkers() {
+            super(2);
+        }
+    }
+
+    /**
+     * A renderer on 4 workers.
+     */
+    @State(Scope.Benchmark)
+    public static class FourWorkers extends Workers {
+        public FourWorkers() {
+            super(4);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalogGenerator;
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Baseline for every public ProductPage operation, to track regressions between releases.
+ *
+ * Each group of benchmarks has its own fixture state, so only its own sizes are multiplied out. Override the sizes
+ * with -PjmhParams, e.g.:
+ * ./gradlew :Groupwork:jmh -PjmhIncludes=ProductPageBenchmark -PjmhParams='candidates=100,5000;imageCount=20'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPageBenchmark {
+
+    private static final int LONGEST = 120;
+    private static final long SEED = 42L;
+
+    /**
+     * The first buying option.
+     *
+     * @param images the page under test
+     * @return the buying option
+     */
+    @Benchmark
+    public Optional<ProductV2.BuyingOption> getFirstBuyingOption(final ImagesFixture images) {
+        return images.productPage.getFirstBuyingOption();
+    }
+
+    /**
+     * The main image URL: the first image.
+     *
+     * @param images the page under test
+     * @return the URL
+     */
+    @Benchmark
+    public Optional<String> extractMainImageUrl(final ImagesFixture images) {
+        return images.productPage.extractMainImageUrl(LONGEST);
+    }
+
+    /**
+     * The LOOK image URL: the last image, so every image is checked.
+     *
+     * @param images the page under test
+     * @return the URL
+     */
+    @Benchmark
+    public Optional<String> extractLookImageUrl(final ImagesFixture images) {
+        return images.productPage.extractLookImageUrl(LONGEST);
+    }
+
+    /**
+     * A styled image URL from a builder.
+     *
+     * @param images the fixture holding the builder
+     * @return the URL
+     */
+    @Benchmark
+    public String styledMediaBuild(final ImagesFixture images) {
+        return images.builder.build().url();
+    }
+
+    /**
+     * The similar products, filtered and sorted.
+     *
+     * @param similar the page under test and the sort order
+     * @return the similar products
+     */
+    @Benchmark
+    public List<ProductV2> getSimilarProducts(final SimilarProductsFixture similar) {
+        return similar.productPage.getSimilarProducts(similar.sortBy, similar.priceRange, similar.primeOption);
+    }
+
+    /**
+     * The similar products, filtered and sorted over a {@link ProductSnapshot}.
+     *
+     * @param similar the page under test and the sort order
+     * @return the similar products
+     */
+    @Benchmark
+    public List<ProductV2> snapshotGetSimilarProducts(final SimilarProductsFixture similar) {
+        return similar.snapshotPage.getSimilarProducts(similar.sortBy, similar.priceRange, similar.primeOption);
+    }
+
+    /**
+     * A product page with images and buying options.
+     */
+    @State(Scope.Benchmark)
+    public static class ImagesFixture {
+        @Param({"1", "10", "50"})
+        public int imageCount;
+
+        private ProductPage productPage;
+        private StyledMedia.Builder builder;
+
+        /**
+         * Creates the product under test.
+         */
+        @Setup
+        public void setup() {
+            productPage = new ProductPage(new SyntheticCatalogGenerator(SEED).productWithImages(imageCount));
+            builder = new StyledMedia.Builder(500, 400)
+                .cdn("m.media-amazon.com")
+                .autoCrop()
+                .scaleToLongest(LONGEST);
+        }
+    }
+
+    /**
+     * A product page with similar products, for each sort order.
+     */
+    @State(Scope.Benchmark)
+    public static class SimilarProductsFixture {
+
+        @Param({"100", "1000"})
+        public int candidates;
+
+        @Param({"RELEVANCE", "REWARD_LOW_TO_HIGH", "REWARD_HIGH_TO_LOW", "PRICE_LOW_TO_HIGH", "PRICE_HIGH_TO_LOW"})
+        public SortByEnum sortBy;
+
+        private final PriceRangeOption priceRange = new PriceRangeOption(PriceRangeEnum.ANY);
+        private final PrimeOption primeOption =
+                new PrimeOption(Arrays.asList(ShippingProgramEnum.PRIME, ShippingProgramEnum.PRIMENOW));
+
+        private ProductPage productPage;
+        private ProductPage snapshotPage;
+
+        /**
+         * Creates the product under test.
+         */
+        @Setup
+        public void setup() {
+            final ProductV2 product = new SyntheticCatalogGenerator(SEED).productWithSimilarProducts(candidates);
+            productPage = new ProductPage(product);
+            snapshotPage = ProductSnapshot.of(product).productPage();
+        }
+    }
+}
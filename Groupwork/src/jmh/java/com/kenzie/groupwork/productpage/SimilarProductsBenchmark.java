@@ -0,0 +1,134 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalogGenerator;
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ProductPage.getSimilarProducts with the single-pass SimilarProductsEngine, sorting with comparators and
+ * with primitive keys, and filtering sequentially and on the common fork/join pool, with a cached compiled query and
+ * on an off-heap columnar copy of the candidates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimilarProductsBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"10", "1000", "100000"})
+    public int candidates;
+
+    @Param({"RELEVANCE", "PRICE_LOW_TO_HIGH"})
+    public SortByEnum sortBy;
+
+    private final PriceRangeOption priceRange = new PriceRangeOption(PriceRangeEnum.ANY);
+    private final PrimeOption primeOption =
+            new PrimeOption(Arrays.asList(ShippingProgramEnum.PRIME, ShippingProgramEnum.PRIMENOW));
+    private final SimilarProductsEngine engine = new SimilarProductsEngine();
+    private final SimilarProductsEngine primitiveKeysEngine =
+            new SimilarProductsEngine(SimilarProductsSortMode.PRIMITIVE_KEYS);
+    private final SimilarProductsEngine parallelEngine = new SimilarProductsEngine(
+            SimilarProductsSortMode.COMPARATOR, SimilarProductsEngine.DEFAULT_PARALLEL_THRESHOLD);
+    private final SimilarProductsQueryCache queryCache = new SimilarProductsQueryCache();
+
+    private ProductV2 product;
+    private ProductPage productPage;
+    private OffHeapCandidateStore offHeapStore;
+    private OffHeapCandidateStore.CandidateResolver offHeapResolver;
+
+    /**
+     * Creates the product under test.
+     */
+    @Setup
+    public void setup() {
+        product = new SyntheticCatalogGenerator(SEED).productWithSimilarProducts(candidates);
+        productPage = new ProductPage(product);
+        final List<ProductV2> similarProducts = product.getSimilarProducts();
+        offHeapStore = OffHeapCandidateStore.of(similarProducts);
+        offHeapResolver = (row, asin) -> similarProducts.get(row);
+    }
+
+    /**
+     * The current path.
+     *
+     * @return the similar products
+     */
+    @Benchmark
+    public List<ProductV2> productPage() {
+        return productPage.getSimilarProducts(sortBy, priceRange, primeOption);
+    }
+
+    /**
+     * The single-pass engine.
+     *
+     * @return the similar products
+     */
+    @Benchmark
+    public List<ProductV2> engine() {
+        return engine.getSimilarProducts(product, sortBy, priceRange, primeOption);
+    }
+
+    /**
+     * The single-pass engine, sorting by long[] cents keys.
+     *
+     * @return the similar products
+     */
+    @Benchmark
+    public List<ProductV2> primitiveKeysEngine() {
+        return primitiveKeysEngine.getSimilarProducts(product, sortBy, priceRange, primeOption);
+    }
+
+    /**
+     * The single-pass engine, filtering large candidate lists in parallel.
+     *
+     * @return the similar products
+     */
+    @Benchmark
+    public List<ProductV2> parallelEngine() {
+        return parallelEngine.getSimilarProducts(product, sortBy, priceRange, primeOption);
+    }
+
+    /**
+     * ProductPage with a compiled query from a shared cache, looked up on every call like a request would.
+     *
+     * @return the similar products
+     */
+    @Benchmark
+    public List<ProductV2> compiledQuery() {
+        return productPage.getSimilarProducts(queryCache.query(sortBy, priceRange, primeOption));
+    }
+
+    /**
+     * Filtering and sorting on off-heap columns, then resolving the matching rows to the products.
+     *
+     * @return the similar products
+     */
+    @Benchmark
+    public List<ProductV2> offHeapStore() {
+        return offHeapStore.query(sortBy, priceRange, primeOption, offHeapResolver);
+    }
+}
@@ -0,0 +1,99 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+import com.kenzie.groupwork.productpage.types.StyledMediaTemplate;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares StyledMedia.Builder.build() with the allocation-free StyledMediaUrlWriter and a shared, immutable
+ * StyledMediaTemplate.
+ *
+ * Run with the gc profiler to see the allocation rate per operation (gc.alloc.rate.norm):
+ * ./gradlew :Groupwork:jmh -PjmhIncludes=StyledMediaRenderBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StyledMediaRenderBenchmark {
+
+    private static final int LONGEST = 120;
+    private static final int RESPONSE_BUFFER_SIZE = 512;
+
+    private final ByteBuffer response = ByteBuffer.allocateDirect(RESPONSE_BUFFER_SIZE);
+
+    private final StyledMediaTemplate template = StyledMediaTemplate.of(500, 400)
+        .cdn("m.media-amazon.com")
+        .autoCrop()
+        .scaleToLongest(LONGEST);
+
+    private StyledMedia.Builder builder;
+
+    /**
+     * Configures the builder under test.
+     */
+    @Setup
+    public void setup() {
+        builder = new StyledMedia.Builder(500, 400)
+            .cdn("m.media-amazon.com")
+            .autoCrop()
+            .scaleToLongest(LONGEST);
+    }
+
+    /**
+     * The current path: a new StringBuilder, String and StyledMedia per URL.
+     *
+     * @return the URL
+     */
+    @Benchmark
+    public String build() {
+        return builder.build().url();
+    }
+
+    /**
+     * Renders into the thread's reusable buffer.
+     *
+     * @return the rendered URL
+     */
+    @Benchmark
+    public int render() {
+        return StyledMediaUrlWriter.render(builder).length();
+    }
+
+    /**
+     * Encodes the URL straight into a response buffer.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    public int writeUtf8() {
+        response.clear();
+        return StyledMediaUrlWriter.writeUtf8(builder, response);
+    }
+
+    /**
+     * Renders the physicalId with a shared template's Builder, without replaying its operations.
+     *
+     * @return the URL
+     */
+    @Benchmark
+    public String template() {
+        return template.url(null, null);
+    }
+}
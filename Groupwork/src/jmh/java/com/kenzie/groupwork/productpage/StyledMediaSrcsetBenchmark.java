@@ -0,0 +1,57 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+import com.kenzie.groupwork.productpage.types.StyledMediaSrcset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building each srcset width with its own Builder against StyledMediaSrcset, which renders the first width
+ * through a Builder and only swaps the _SL number for the others.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StyledMediaSrcsetBenchmark {
+
+    private static final int[] SIZES = {160, 320, 480, 640, 960, 1280, 1600, 1920};
+
+    private final StyledMedia media = new StyledMedia.Builder(2000, 1500).build();
+
+    /**
+     * A Builder, rendering and StyledMedia per width, by hand.
+     *
+     * @return the URLs
+     */
+    @Benchmark
+    public String[] buildPerSize() {
+        final String[] urls = new String[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            urls[i] = media.styleBuilder().scaleToLongest(SIZES[i]).build().url();
+        }
+        return urls;
+    }
+
+    /**
+     * StyledMediaSrcset: one Builder rendering, then the shared head and tail around each width.
+     *
+     * @return the URLs
+     */
+    @Benchmark
+    public String[] singlePass() {
+        return StyledMediaSrcset.urlsScaledToLongest(media, SIZES);
+    }
+}
@@ -0,0 +1,139 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * The sections of one product page, each computed on first use. Created by {@link ProductPageAssembler}.
+ *
+ * Asking for a section starts it on the executor and returns its future; asking again returns the same future.
+ * {@link #all()} starts every section that has not started yet, so they run in parallel, and completes when the
+ * last one does. Each section returns the same value as the matching {@link ProductPage} method. A section that
+ * throws completes its own future exceptionally, and {@link #all()} with it, without affecting the other sections.
+ *
+ * Safe to share between threads.
+ */
+public final class AssembledProductPage {
+
+    private final ProductPage productPage;
+    private final LazySection<Optional<ProductV2.BuyingOption>> firstBuyingOption;
+    private final LazySection<Optional<String>> mainImageUrl;
+    private final LazySection<Optional<String>> lookImageUrl;
+    private final LazySection<List<ProductV2>> similarProducts;
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    AssembledProductPage(final ProductPage productPage,
+                         final Executor executor,
+                         final int longestDimension,
+                         final SortByEnum sortBy,
+                         final PriceRangeOption priceRange,
+                         final PrimeOption primeOption) {
+        this.productPage = productPage;
+        this.firstBuyingOption = new LazySection<>(executor, productPage::getFirstBuyingOption);
+        this.mainImageUrl = new LazySection<>(executor, () -> productPage.extractMainImageUrl(longestDimension));
+        this.lookImageUrl = new LazySection<>(executor, () -> productPage.extractLookImageUrl(longestDimension));
+        this.similarProducts = new LazySection<>(executor,
+            () -> productPage.getSimilarProducts(sortBy, priceRange, primeOption));
+    }
+
+    public ProductV2 getProduct() {
+        return productPage.getProduct();
+    }
+
+    /**
+     * Starts, if needed, and returns the first buying option section.
+     *
+     * @return the first (winning) buying option, or empty if none
+     */
+    public CompletableFuture<Optional<ProductV2.BuyingOption>> firstBuyingOption() {
+        return firstBuyingOption.start();
+    }
+
+    /**
+     * Starts, if needed, and returns the main image URL section.
+     *
+     * @return the main image URL, or empty if no image exists
+     */
+    public CompletableFuture<Optional<String>> mainImageUrl() {
+        return mainImageUrl.start();
+    }
+
+    /**
+     * Starts, if needed, and returns the LOOK image URL section.
+     *
+     * @return the LOOK image URL, or empty if no LOOK image exists
+     */
+    public CompletableFuture<Optional<String>> lookImageUrl() {
+        return lookImageUrl.start();
+    }
+
+    /**
+     * Starts, if needed, and returns the similar products section.
+     *
+     * @return the filtered and sorted similar products
+     */
+    public CompletableFuture<List<ProductV2>> similarProducts() {
+        return similarProducts.start();
+    }
+
+    /**
+     * Starts every section not started yet and combines them.
+     *
+     * @return every section, once all of them complete
+     */
+    public CompletableFuture<ProductPageSections> all() {
+        final CompletableFuture<Optional<ProductV2.BuyingOption>> buyingOption = firstBuyingOption();
+        final CompletableFuture<Optional<String>> mainImage = mainImageUrl();
+        final CompletableFuture<Optional<String>> lookImage = lookImageUrl();
+        final CompletableFuture<List<ProductV2>> similar = similarProducts();
+        return CompletableFuture.allOf(buyingOption, mainImage, lookImage, similar)
+            .thenApply(ignored -> new ProductPageSections(buyingOption.join(), mainImage.join(), lookImage.join(),
+                similar.join()));
+    }
+
+    /**
+     * A section computed on the executor the first time it is started.
+     */
+    private static final class LazySection<T> {
+        private final Executor executor;
+        private final Supplier<T> supplier;
+        private final AtomicReference<CompletableFuture<T>> future = new AtomicReference<>();
+
+        LazySection(final Executor executor, final Supplier<T> supplier) {
+            this.executor = executor;
+            this.supplier = supplier;
+        }
+
+        CompletableFuture<T> start() {
+            final CompletableFuture<T> started = future.get();
+            if (started != null) {
+                return started;
+            }
+            final CompletableFuture<T> section = new CompletableFuture<>();
+            if (!future.compareAndSet(null, section)) {
+                return future.get();
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        section.complete(supplier.get());
+                    } catch (RuntimeException | Error e) {
+                        section.completeExceptionally(e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                section.completeExceptionally(e);
+            }
+            return section;
+        }
+    }
+}
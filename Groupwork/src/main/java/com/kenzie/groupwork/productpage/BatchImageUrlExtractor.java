@@ -0,0 +1,145 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Extracts the main and LOOK image URLs for many products at once, for search and carousel widgets.
+ *
+ * Each product's image list is scanned once for both URLs, and an image URL needed by both is built once.
+ * Collections larger than the batch size are split into batches that run on the executor.
+ */
+public class BatchImageUrlExtractor {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final String LOOK_VARIANT = "LOOK";
+
+    private final Executor executor;
+    private final int batchSize;
+    private final StyledMediaUrlCache urlCache;
+
+    /**
+     * Creates an extractor that runs every batch on the calling thread.
+     */
+    public BatchImageUrlExtractor() {
+        this(Runnable::run, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates an extractor that splits large collections into batches run on the executor.
+     *
+     * @param executor runs the batches
+     * @param batchSize the number of products per batch
+     */
+    public BatchImageUrlExtractor(final Executor executor, final int batchSize) {
+        this(executor, batchSize, null);
+    }
+
+    /**
+     * Creates an extractor that splits large collections into batches run on the executor, and looks image URLs up
+     * in a shared cache.
+     *
+     * @param executor runs the batches
+     * @param batchSize the number of products per batch
+     * @param urlCache the image URL cache, or null to always build URLs
+     */
+    public BatchImageUrlExtractor(final Executor executor, final int batchSize, final StyledMediaUrlCache urlCache) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be a positive number, got: " + batchSize);
+        }
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.urlCache = urlCache;
+    }
+
+    /**
+     * Extracts the main and LOOK image URLs of every product.
+     *
+     * @param products the products
+     * @param longestDimension the size of the longest dimension of the images
+     * @return the URLs of each product, in the collection's iteration order
+     */
+    public List<ProductImageUrls> extract(final Collection<ProductV2> products, final int longestDimension) {
+        final List<ProductV2> productList = new ArrayList<>(products);
+        if (productList.size() <= batchSize) {
+            return extractBatch(productList, longestDimension);
+        }
+
+        final List<CompletableFuture<List<ProductImageUrls>>> batches = new ArrayList<>();
+        for (int from = 0; from < productList.size(); from += batchSize) {
+            final List<ProductV2> batch = productList.subList(from, Math.min(from + batchSize, productList.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> extractBatch(batch, longestDimension), executor));
+        }
+
+        final List<ProductImageUrls> imageUrls = new ArrayList<>(productList.size());
+        for (CompletableFuture<List<ProductImageUrls>> batch : batches) {
+            imageUrls.addAll(batch.join());
+        }
+        return imageUrls;
+    }
+
+    /**
+     * Extracts the main and LOOK image URLs of one product with a single scan of its images.
+     *
+     * The main image is the first image with a variant and a URL, the LOOK image is the first image whose variant
+     * contains LOOK and that has a URL, the same as {@link ProductPage}.
+     *
+     * @param product the product
+     * @param longestDimension the size of the longest dimension of the images
+     * @return the product's URLs
+     */
+    public ProductImageUrls extract(final ProductV2 product, final int longestDimension) {
+        final List<ProductImagesV2.Image> images = product.productImages()
+                .map(ProductImagesV2::images)
+                .orElse(null);
+
+        String mainImageUrl = null;
+        String lookImageUrl = null;
+        if (images != null) {
+            for (ProductImagesV2.Image image : images) {
+                final String variant = image.variant();
+                if (variant == null) {
+                    continue;
+                }
+                final boolean lookCandidate = lookImageUrl == null && variant.contains(LOOK_VARIANT);
+                if (mainImageUrl == null || lookCandidate) {
+                    final String url = extractImageUrl(image, longestDimension);
+                    if (mainImageUrl == null) {
+                        mainImageUrl = url;
+                    }
+                    if (lookCandidate) {
+                        lookImageUrl = url;
+                    }
+                }
+                if (mainImageUrl != null && lookImageUrl != null) {
+                    break;
+                }
+            }
+        }
+        return new ProductImageUrls(product, Optional.ofNullable(mainImageUrl), Optional.ofNullable(lookImageUrl));
+    }
+
+    private List<ProductImageUrls> extractBatch(final List<ProductV2> batch, final int longestDimension) {
+        final List<ProductImageUrls> imageUrls = new ArrayList<>(batch.size());
+        for (ProductV2 product : batch) {
+            imageUrls.add(extract(product, longestDimension));
+        }
+        return imageUrls;
+    }
+
+    private String extractImageUrl(final ProductImagesV2.Image image, final int longest) {
+        final StyledMedia.Builder builder = image.lowRes().styleBuilder()
+            .scaleToLongest(longest);
+        return urlCache == null ? builder.build().url() : urlCache.url(builder);
+    }
+}
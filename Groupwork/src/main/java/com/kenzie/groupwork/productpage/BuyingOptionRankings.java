@@ -0,0 +1,63 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Rankings for {@link BuyingOptionService}: the best buying option compares lowest. Options that compare equal keep
+ * their order in ProductV2.buyingOptions(), so every ranking ends in list order.
+ */
+public final class BuyingOptionRankings {
+
+    private BuyingOptionRankings() {
+    }
+
+    /**
+     * Ranks every option equal: the first listed option wins, like {@link ProductPage#getFirstBuyingOption()}.
+     *
+     * @return the ranking
+     */
+    public static Comparator<ProductV2.BuyingOption> listOrder() {
+        return (left, right) -> 0;
+    }
+
+    /**
+     * Ranks the cheapest option first. Options without a price rank last.
+     *
+     * @return the ranking
+     */
+    public static Comparator<ProductV2.BuyingOption> lowestPrice() {
+        return Comparator.comparing(ProductV2.BuyingOption::price, Comparator.nullsLast(BigDecimal::compareTo));
+    }
+
+    /**
+     * Ranks options by type, in the order given. Types not given rank last.
+     *
+     * @param types the preferred types, e.g. "NEW"
+     * @return the ranking
+     */
+    public static Comparator<ProductV2.BuyingOption> preferredTypes(final String... types) {
+        final List<String> preferred = Arrays.asList(types);
+        return Comparator.comparingInt(option -> rank(preferred, option.type()));
+    }
+
+    /**
+     * Ranks options sold by a merchant first.
+     *
+     * @param merchant the preferred merchant
+     * @return the ranking
+     */
+    public static Comparator<ProductV2.BuyingOption> preferredMerchant(final String merchant) {
+        return Comparator.comparingInt(option -> Objects.equals(merchant, option.merchant()) ? 0 : 1);
+    }
+
+    private static int rank(final List<String> preferred, final String value) {
+        final int rank = preferred.indexOf(value);
+        return rank < 0 ? preferred.size() : rank;
+    }
+}
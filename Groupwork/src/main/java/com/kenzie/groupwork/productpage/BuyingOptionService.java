@@ -0,0 +1,175 @@
+package com.kenzie.groupwork.productpage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Picks the winning buying option of a product once per ASIN and buying options version, and serves it to every
+ * widget on the page from a bounded cache.
+ *
+ * The winner is the option the ranking compares lowest, the first listed one on ties (see
+ * {@link BuyingOptionRankings}). A read of a cached winner is a cache lookup and a version check: O(1) and
+ * allocation-free. A winner picked for an older version never replaces one for a newer version. When offers change
+ * without a new version, call {@link #invalidate(String)}. Products without an ASIN are ranked on every call.
+ *
+ * Every ASIN hashes to one of a fixed number of generation counters, which {@link #invalidate(String)} bumps before
+ * dropping the winner. A winner ranked while its counter moved is not kept, so a ranking of the old offers that
+ * finishes after an invalidation cannot put the stale winner back. ASINs sharing a counter are only ranked again.
+ */
+public class BuyingOptionService {
+
+    /**
+     * Enough for the products of a few busy pages.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Comparator<ProductV2.BuyingOption> ranking;
+    private final ConcurrentMap<String, Winner> winners;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /**
+     * Creates a service where the first listed option wins, like {@link ProductPage#getFirstBuyingOption()}.
+     */
+    public BuyingOptionService() {
+        this(BuyingOptionRankings.listOrder());
+    }
+
+    /**
+     * Creates a service holding up to {@link #DEFAULT_MAXIMUM_SIZE} winners.
+     *
+     * @param ranking orders the buying options of a product, best first
+     */
+    public BuyingOptionService(final Comparator<ProductV2.BuyingOption> ranking) {
+        this(ranking, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a service holding up to maximumSize winners.
+     *
+     * @param ranking orders the buying options of a product, best first
+     * @param maximumSize the maximum number of winners to keep
+     */
+    public BuyingOptionService(final Comparator<ProductV2.BuyingOption> ranking, final long maximumSize) {
+        if (ranking == null) {
+            throw new IllegalArgumentException("ranking must not be null");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be a positive number, got: " + maximumSize);
+        }
+        this.ranking = ranking;
+        final Cache<String, Winner> cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+        this.winners = cache.asMap();
+    }
+
+    /**
+     * Returns the winning buying option of a product for its current offers, ranking them only if they are not
+     * cached. Use when offers are invalidated explicitly rather than versioned.
+     *
+     * @param product the product
+     * @return an Optional with the winning BuyingOption, or empty if none.
+     */
+    public Optional<ProductV2.BuyingOption> winner(final ProductV2 product) {
+        return winner(product, 0);
+    }
+
+    /**
+     * Returns the winning buying option of a product for a buying options version, ranking them only if that
+     * version is not cached.
+     *
+     * @param product the product
+     * @param version the version of the product's buying options, higher is newer
+     * @return an Optional with the winning BuyingOption, or empty if none.
+     */
+    public Optional<ProductV2.BuyingOption> winner(final ProductV2 product, final long version) {
+        final String asin = product.asin();
+        if (asin == null) {
+            return pickWinner(product.buyingOptions());
+        }
+        final Winner cached = winners.get(asin);
+        if (cached != null && cached.version == version) {
+            return cached.buyingOption;
+        }
+        final int stripe = stripe(asin);
+        final long generation = generations.get(stripe);
+        final Winner ranked = new Winner(version, pickWinner(product.buyingOptions()));
+        if (generations.get(stripe) == generation) {
+            winners.merge(asin, ranked,
+                (current, candidate) -> current.version > candidate.version ? current : candidate);
+            if (generations.get(stripe) != generation) {
+                // Invalidated while being stored: the invalidation may have missed it.
+                winners.remove(asin, ranked);
+            }
+        }
+        return ranked.buyingOption;
+    }
+
+    /**
+     * Forgets the winner of a product, e.g. when its offers changed. Rankings already running for it are not kept.
+     *
+     * @param asin the product's ASIN
+     */
+    public void invalidate(final String asin) {
+        generations.incrementAndGet(stripe(asin));
+        winners.remove(asin);
+    }
+
+    /**
+     * Forgets every winner. Rankings already running are not kept.
+     */
+    public void invalidateAll() {
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        winners.clear();
+    }
+
+    /**
+     * The number of cached winners.
+     *
+     * @return the approximate number of ASINs with a cached winner
+     */
+    public long size() {
+        return winners.size();
+    }
+
+    private static int stripe(final String asin) {
+        return asin.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private Optional<ProductV2.BuyingOption> pickWinner(final List<ProductV2.BuyingOption> buyingOptions) {
+        if (buyingOptions == null) {
+            return Optional.empty();
+        }
+        ProductV2.BuyingOption best = null;
+        for (ProductV2.BuyingOption option : buyingOptions) {
+            if (option != null && (best == null || ranking.compare(option, best) < 0)) {
+                best = option;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * The winner picked for a buying options version.
+     */
+    private static final class Winner {
+        private final long version;
+        private final Optional<ProductV2.BuyingOption> buyingOption;
+
+        Winner(final long version, final Optional<ProductV2.BuyingOption> buyingOption) {
+            this.version = version;
+            this.buyingOption = buyingOption;
+        }
+    }
+}
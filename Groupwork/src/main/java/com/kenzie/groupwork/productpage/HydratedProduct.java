@@ -0,0 +1,140 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A product whose filter and sort attributes were read once, up front, by {@link SimilarProductHydrator}, or
+ * replaced by {@link SimilarProductDelta}s in an {@link IncrementalSimilarProducts} view.
+ *
+ * The ASIN, price, reward, shipping programs and validity come from the snapshot, everything else is read from the
+ * wrapped product. Two hydrated products are equal when they wrap equal products.
+ */
+final class HydratedProduct implements ProductV2 {
+
+    private final ProductV2 product;
+    private final String asin;
+    private final BigDecimal price;
+    private final BigDecimal totalBenefitAmount;
+    private final List<ShippingProgramEnum> shippingPrograms;
+    private final boolean valid;
+
+    private HydratedProduct(final ProductV2 product, final String asin, final BigDecimal price,
+                            final BigDecimal totalBenefitAmount, final List<ShippingProgramEnum> shippingPrograms,
+                            final boolean valid) {
+        this.product = product;
+        this.asin = asin;
+        this.price = price;
+        this.totalBenefitAmount = totalBenefitAmount;
+        this.shippingPrograms = shippingPrograms;
+        this.valid = valid;
+    }
+
+    /**
+     * Reads the attributes of a product.
+     *
+     * @param product the product, not null
+     * @return the hydrated product
+     */
+    static HydratedProduct of(final ProductV2 product) {
+        return of(product, product.asin(), product.getPrice(), product.getTotalBenefitAmount(),
+            product.getShippingPrograms(), product.isValid());
+    }
+
+    /**
+     * Wraps a product with values already read from it, or newer than it reports itself.
+     *
+     * @param product the product, not null
+     * @param asin the ASIN
+     * @param price the price
+     * @param totalBenefitAmount the reward
+     * @param shippingPrograms the shipping programs
+     * @param valid the validity
+     * @return the hydrated product
+     */
+    static HydratedProduct of(final ProductV2 product, final String asin, final BigDecimal price,
+                              final BigDecimal totalBenefitAmount, final List<ShippingProgramEnum> shippingPrograms,
+                              final boolean valid) {
+        return new HydratedProduct(product, asin, price, totalBenefitAmount, shippingPrograms, valid);
+    }
+
+    /**
+     * Returns the wrapped product.
+     *
+     * @return the product
+     */
+    ProductV2 product() {
+        return product;
+    }
+
+    @Override
+    public String internalDatapathEntity() {
+        return product.internalDatapathEntity();
+    }
+
+    @Override
+    public String title() {
+        return product.title();
+    }
+
+    @Override
+    public List<BuyingOption> buyingOptions() {
+        return product.buyingOptions();
+    }
+
+    @Override
+    public String asin() {
+        return asin;
+    }
+
+    @Override
+    public Optional<ProductImagesV2> productImages() {
+        return product.productImages();
+    }
+
+    @Override
+    public BigDecimal getTotalBenefitAmount() {
+        return totalBenefitAmount;
+    }
+
+    @Override
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    @Override
+    public List<ProductV2> getSimilarProducts() {
+        return product.getSimilarProducts();
+    }
+
+    @Override
+    public List<ShippingProgramEnum> getShippingPrograms() {
+        return shippingPrograms;
+    }
+
+    @Override
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HydratedProduct)) {
+            return false;
+        }
+        return product.equals(((HydratedProduct) o).product);
+    }
+
+    @Override
+    public int hashCode() {
+        return product.hashCode();
+    }
+}
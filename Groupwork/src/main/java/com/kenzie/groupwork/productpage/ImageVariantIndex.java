@@ -0,0 +1,252 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds a product's images by variant without comparing Strings.
+ *
+ * Variants are the 4-character codes described in {@link ProductImagesV2.Image#variant()} (MAIN, PT01..PT99, LOOK,
+ * FRNT, BACK, ...). Each is packed into an int, one byte per ASCII character, and an open-addressing table maps
+ * the code to the positions of the images with that variant, in list order. Looking up a variant is one hash probe.
+ *
+ * Variants that are not 4 ASCII characters cannot be packed. They are kept as Strings and checked by a scan of just
+ * those images, so every lookup still gives the same answer as comparing the variant Strings.
+ */
+public final class ImageVariantIndex {
+
+    /**
+     * The code of a null or unpackable variant.
+     */
+    static final int NO_CODE = 0;
+
+    private static final String LOOK_VARIANT = "LOOK";
+    private static final int LOOK_CODE = variantCode(LOOK_VARIANT);
+    private static final int VARIANT_LENGTH = 4;
+    private static final int MAX_ASCII = 127;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final int imageCount;
+    private final int[] tableCodes;
+    private final int[][] tablePositions;
+    private final int shift;
+    private final int[] variantPositions;
+    private final int[] unpackedPositions;
+    private final String[] unpackedVariants;
+    private final int[] lookPositions;
+
+    private ImageVariantIndex(final String[] variants) {
+        imageCount = variants.length;
+        final int[] codes = new int[imageCount];
+        int variantCount = 0;
+        int unpackedCount = 0;
+        for (int i = 0; i < imageCount; i++) {
+            codes[i] = variantCode(variants[i]);
+            if (variants[i] != null) {
+                variantCount++;
+                if (codes[i] == NO_CODE) {
+                    unpackedCount++;
+                }
+            }
+        }
+
+        final int capacity = Integer.highestOneBit(Math.max(1, variantCount) * 2 - 1) * 2;
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+        tableCodes = new int[capacity];
+        tablePositions = new int[capacity][];
+        variantPositions = new int[variantCount];
+        unpackedPositions = new int[unpackedCount];
+        unpackedVariants = new String[unpackedCount];
+        int nextVariant = 0;
+        int nextUnpacked = 0;
+        for (int i = 0; i < imageCount; i++) {
+            if (variants[i] == null) {
+                continue;
+            }
+            variantPositions[nextVariant++] = i;
+            if (codes[i] == NO_CODE) {
+                unpackedPositions[nextUnpacked] = i;
+                unpackedVariants[nextUnpacked++] = variants[i];
+            } else {
+                add(codes[i], i);
+            }
+        }
+        lookPositions = findLookPositions();
+    }
+
+    /**
+     * Indexes a product's images.
+     *
+     * @param images the images, may be null
+     * @return the index
+     */
+    public static ImageVariantIndex of(final List<ProductImagesV2.Image> images) {
+        if (images == null) {
+            return new ImageVariantIndex(new String[0]);
+        }
+        final String[] variants = new String[images.size()];
+        for (int i = 0; i < variants.length; i++) {
+            variants[i] = images.get(i).variant();
+        }
+        return new ImageVariantIndex(variants);
+    }
+
+    /**
+     * Indexes image variants.
+     *
+     * @param variants the variant of each image, nulls for images without one
+     * @return the index
+     */
+    static ImageVariantIndex ofVariants(final String... variants) {
+        return new ImageVariantIndex(variants.clone());
+    }
+
+    /**
+     * Packs a 4-character ASCII variant into an int, one byte per character, first character highest.
+     *
+     * @param variant the variant
+     * @return the code, or NO_CODE if the variant is null or not 4 ASCII characters
+     */
+    static int variantCode(final String variant) {
+        if (variant == null || variant.length() != VARIANT_LENGTH) {
+            return NO_CODE;
+        }
+        int code = 0;
+        for (int i = 0; i < VARIANT_LENGTH; i++) {
+            final char c = variant.charAt(i);
+            if (c == 0 || c > MAX_ASCII) {
+                return NO_CODE;
+            }
+            code = code << Byte.SIZE | c;
+        }
+        return code;
+    }
+
+    /**
+     * Returns the number of images indexed.
+     *
+     * @return the number of images
+     */
+    public int size() {
+        return imageCount;
+    }
+
+    /**
+     * Returns the positions of the images with exactly this variant.
+     *
+     * @param variant the variant, e.g. MAIN or PT01
+     * @return the positions in list order, empty if there are none
+     */
+    public int[] positionsOf(final String variant) {
+        if (variant == null) {
+            return NO_POSITIONS;
+        }
+        final int code = variantCode(variant);
+        if (code != NO_CODE) {
+            return lookup(code).clone();
+        }
+        int count = 0;
+        final int[] positions = new int[unpackedVariants.length];
+        for (int i = 0; i < unpackedVariants.length; i++) {
+            if (unpackedVariants[i].equals(variant)) {
+                positions[count++] = unpackedPositions[i];
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Returns the position of the first image with exactly this variant.
+     *
+     * @param variant the variant, e.g. MAIN or PT01
+     * @return the position, or -1 if there is none
+     */
+    public int firstPositionOf(final String variant) {
+        final int code = variantCode(variant);
+        if (code != NO_CODE) {
+            final int[] positions = lookup(code);
+            return positions.length == 0 ? -1 : positions[0];
+        }
+        final int[] positions = positionsOf(variant);
+        return positions.length == 0 ? -1 : positions[0];
+    }
+
+    /**
+     * Returns the positions of the images whose variant contains LOOK, as checked by
+     * {@link ProductPage#extractLookImageUrl(Integer)}.
+     *
+     * @return the positions in list order
+     */
+    public int[] lookPositions() {
+        return lookPositions.clone();
+    }
+
+    /**
+     * Returns the positions of the images that have a variant, the candidates for
+     * {@link ProductPage#extractMainImageUrl(Integer)}.
+     *
+     * @return the positions in list order
+     */
+    public int[] positionsWithVariant() {
+        return variantPositions.clone();
+    }
+
+    int[] lookPositionsView() {
+        return lookPositions;
+    }
+
+    int[] positionsWithVariantView() {
+        return variantPositions;
+    }
+
+    private void add(final int code, final int position) {
+        int slot = slot(code);
+        while (tablePositions[slot] != null && tableCodes[slot] != code) {
+            slot = (slot + 1) & (tableCodes.length - 1);
+        }
+        if (tablePositions[slot] == null) {
+            tableCodes[slot] = code;
+            tablePositions[slot] = new int[] {position};
+        } else {
+            final int[] positions = Arrays.copyOf(tablePositions[slot], tablePositions[slot].length + 1);
+            positions[positions.length - 1] = position;
+            tablePositions[slot] = positions;
+        }
+    }
+
+    private int[] lookup(final int code) {
+        int slot = slot(code);
+        while (tablePositions[slot] != null) {
+            if (tableCodes[slot] == code) {
+                return tablePositions[slot];
+            }
+            slot = (slot + 1) & (tableCodes.length - 1);
+        }
+        return NO_POSITIONS;
+    }
+
+    private int slot(final int code) {
+        return (code * HASH_MULTIPLIER) >>> shift;
+    }
+
+    /**
+     * Merges the packed LOOK images with the unpacked variants that contain LOOK, in list order.
+     */
+    private int[] findLookPositions() {
+        final int[] packed = lookup(LOOK_CODE);
+        int[] merged = packed;
+        for (int i = 0; i < unpackedVariants.length; i++) {
+            if (unpackedVariants[i].contains(LOOK_VARIANT)) {
+                merged = Arrays.copyOf(merged, merged.length + 1);
+                merged[merged.length - 1] = unpackedPositions[i];
+            }
+        }
+        if (merged != packed) {
+            Arrays.sort(merged);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,224 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.ShippingProgramMask;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The filtered, sorted similar products of one product for one sort and filter combination, kept up to date by
+ * {@link SimilarProductDelta}s instead of being recomputed.
+ *
+ * The matching products are held in a TreeSet ordered by the sort key, then by candidate position, so ties keep
+ * their original order like {@link SimilarProductsEngine}. A delta removes its product from the set, updates it and
+ * puts it back if it still matches: O(log n). {@link #products()} returns a list that is rebuilt, without filtering
+ * or sorting, only on the first read after a change.
+ *
+ * The price, shipping programs and validity of each candidate are read once when the view is created; after that
+ * only deltas change them, the products are not asked again. Candidates are identified by ASIN: the first candidate
+ * for each ASIN is kept, later ones are ignored, and candidates without an ASIN are kept but cannot be updated.
+ * {@link #products()} returns a candidate as the product itself until a delta changes it, and from then on as a
+ * {@link HydratedProduct} wrapping it, whose price, shipping programs and validity are the updated ones.
+ *
+ * Thread-safe: deltas and rebuilds are serialized on the view, reads of an unchanged view do not lock.
+ */
+public final class IncrementalSimilarProducts {
+
+    private final SortByEnum sortBy;
+    private final PriceRangeOption priceRange;
+    private final int acceptedMask;
+    private final Map<String, Candidate> candidatesByAsin = new HashMap<>();
+    private final TreeSet<Candidate> matching;
+
+    private volatile List<ProductV2> products;
+
+    private IncrementalSimilarProducts(final SortByEnum sortBy, final PriceRangeOption priceRange,
+                                       final int acceptedMask) {
+        this.sortBy = sortBy;
+        this.priceRange = priceRange;
+        this.acceptedMask = acceptedMask;
+        this.matching = new TreeSet<>(order(sortBy));
+    }
+
+    /**
+     * Creates the view of a product's similar products.
+     *
+     * @param product the product whose similar products are viewed
+     * @param sortBy sort by parameter, RELEVANCE keeps the candidate order
+     * @param priceRange price range filter
+     * @param primeOption prime filter, only asked which programs it matches while creating the view
+     * @return the view
+     */
+    public static IncrementalSimilarProducts of(final ProductV2 product,
+                                                final SortByEnum sortBy,
+                                                final PriceRangeOption priceRange,
+                                                final PrimeOption primeOption) {
+        final IncrementalSimilarProducts view =
+                new IncrementalSimilarProducts(sortBy, priceRange, SimilarProductFilter.acceptedMask(primeOption));
+        final List<ProductV2> candidates = product.getSimilarProducts();
+        if (candidates != null) {
+            int position = 0;
+            for (ProductV2 candidate : candidates) {
+                if (candidate != null) {
+                    view.add(new Candidate(candidate, position++));
+                }
+            }
+        }
+        return view;
+    }
+
+    /**
+     * Returns the matching products in sort order. Products changed by a delta report their updated values.
+     *
+     * @return an unmodifiable list, the same instance until the next change
+     */
+    public List<ProductV2> products() {
+        final List<ProductV2> current = products;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * Applies a change to one product.
+     *
+     * @param delta the change
+     * @return true if the view has a candidate with the delta's ASIN
+     */
+    public synchronized boolean apply(final SimilarProductDelta delta) {
+        final Candidate candidate = candidatesByAsin.get(delta.getAsin());
+        if (candidate == null) {
+            return false;
+        }
+        final boolean wasMatching = candidate.matching && matching.remove(candidate);
+        switch (delta.getKind()) {
+            case PRICE:
+                candidate.price = delta.getPrice();
+                break;
+            case SHIPPING_PROGRAMS:
+                candidate.shippingPrograms = delta.getShippingPrograms();
+                candidate.shippingMask = ShippingProgramMask.of(candidate.shippingPrograms);
+                break;
+            default:
+                candidate.valid = delta.isValid();
+                break;
+        }
+        candidate.current = HydratedProduct.of(candidate.product, candidate.asin, candidate.price, candidate.benefit,
+            candidate.shippingPrograms, candidate.valid);
+        candidate.matching = matches(candidate) && matching.add(candidate);
+        if (wasMatching || candidate.matching) {
+            products = null;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the view has a candidate with an ASIN.
+     *
+     * @param asin the ASIN
+     * @return true if deltas for the ASIN change this view
+     */
+    public synchronized boolean contains(final String asin) {
+        return candidatesByAsin.containsKey(asin);
+    }
+
+    public SortByEnum getSortBy() {
+        return sortBy;
+    }
+
+    /**
+     * Returns the ASINs deltas can be applied for. They are fixed when the view is created.
+     *
+     * @return the candidate ASINs
+     */
+    Set<String> candidateAsins() {
+        return Collections.unmodifiableSet(candidatesByAsin.keySet());
+    }
+
+    private void add(final Candidate candidate) {
+        if (candidate.asin != null && candidatesByAsin.putIfAbsent(candidate.asin, candidate) != null) {
+            return;
+        }
+        candidate.matching = matches(candidate) && matching.add(candidate);
+    }
+
+    private boolean matches(final Candidate candidate) {
+        return candidate.valid
+                && ShippingProgramMask.intersects(acceptedMask, candidate.shippingMask)
+                && candidate.price != null
+                && priceRange.priceIsWithin(candidate.price);
+    }
+
+    private synchronized List<ProductV2> rebuild() {
+        if (products == null) {
+            final List<ProductV2> sorted = new ArrayList<>(matching.size());
+            for (Candidate candidate : matching) {
+                sorted.add(candidate.current);
+            }
+            products = Collections.unmodifiableList(sorted);
+        }
+        return products;
+    }
+
+    private static Comparator<Candidate> order(final SortByEnum sortBy) {
+        final Comparator<Candidate> byPosition = Comparator.comparingInt(candidate -> candidate.position);
+        if (sortBy == null) {
+            return byPosition;
+        }
+        switch (sortBy) {
+            case PRICE_LOW_TO_HIGH:
+                return Comparator.<Candidate, BigDecimal>comparing(candidate -> candidate.price)
+                        .thenComparing(byPosition);
+            case PRICE_HIGH_TO_LOW:
+                return Comparator.<Candidate, BigDecimal>comparing(candidate -> candidate.price,
+                        Comparator.reverseOrder()).thenComparing(byPosition);
+            case REWARD_LOW_TO_HIGH:
+                return Comparator.<Candidate, BigDecimal>comparing(candidate -> candidate.benefit)
+                        .thenComparing(byPosition);
+            case REWARD_HIGH_TO_LOW:
+                return Comparator.<Candidate, BigDecimal>comparing(candidate -> candidate.benefit,
+                        Comparator.reverseOrder()).thenComparing(byPosition);
+            default:
+                return byPosition;
+        }
+    }
+
+    /**
+     * A candidate's position and the values the view filters and sorts it by. Only changed while it is out of the
+     * TreeSet. {@code current} is what {@link #products()} returns for it.
+     */
+    private static final class Candidate {
+        private final ProductV2 product;
+        private final int position;
+        private final String asin;
+        private final BigDecimal benefit;
+        private BigDecimal price;
+        private List<ShippingProgramEnum> shippingPrograms;
+        private int shippingMask;
+        private boolean valid;
+        private boolean matching;
+        private ProductV2 current;
+
+        Candidate(final ProductV2 product, final int position) {
+            this.product = product;
+            this.position = position;
+            this.asin = product.asin();
+            this.benefit = product.getTotalBenefitAmount();
+            this.price = product.getPrice();
+            this.shippingPrograms = product.getShippingPrograms();
+            this.shippingMask = ShippingProgramMask.of(shippingPrograms);
+            this.valid = product.isValid();
+            this.current = product;
+        }
+    }
+}
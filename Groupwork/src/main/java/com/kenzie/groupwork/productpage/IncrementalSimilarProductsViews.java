@@ -0,0 +1,155 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@link IncrementalSimilarProducts} views being maintained, keyed by product ASIN, sort, price range value and
+ * the shipping programs the prime filter accepts. Deltas are applied to every view that has the changed product
+ * among its candidates.
+ *
+ * Each view is also indexed by the ASINs of its candidates when it is created, so a delta only visits the views it
+ * changes instead of every view kept.
+ *
+ * Plain PriceRangeOptions are keyed by their value. A subclass, or an option without a value, may filter differently
+ * from the plain option with the same value, so its views are keyed by the option instance itself: pass the same
+ * instance to share them.
+ */
+public class IncrementalSimilarProductsViews {
+
+    private final ConcurrentMap<Key, IncrementalSimilarProducts> views = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<IncrementalSimilarProducts>> viewsByCandidate = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the view for a product and options, creating it on first use.
+     *
+     * @param product the product whose similar products are viewed, must have an ASIN
+     * @param sortBy sort by parameter
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @return the view
+     */
+    public IncrementalSimilarProducts view(final ProductV2 product,
+                                           final SortByEnum sortBy,
+                                           final PriceRangeOption priceRange,
+                                           final PrimeOption primeOption) {
+        if (product.asin() == null) {
+            throw new IllegalArgumentException("product must have an ASIN to be kept as a view");
+        }
+        final int acceptedMask = SimilarProductFilter.acceptedMask(primeOption);
+        final Object priceRangeKey = priceRange.getClass() != PriceRangeOption.class || priceRange.getValue() == null
+                ? priceRange
+                : priceRange.getValue();
+        final Key key = new Key(product.asin(), sortBy, priceRangeKey, acceptedMask);
+        return views.computeIfAbsent(key, ignored -> {
+            final IncrementalSimilarProducts view =
+                    IncrementalSimilarProducts.of(product, sortBy, priceRange, primeOption);
+            for (String asin : view.candidateAsins()) {
+                viewsByCandidate.compute(asin, (unused, candidateViews) -> {
+                    final Set<IncrementalSimilarProducts> indexed =
+                            candidateViews == null ? ConcurrentHashMap.newKeySet() : candidateViews;
+                    indexed.add(view);
+                    return indexed;
+                });
+            }
+            return view;
+        });
+    }
+
+    /**
+     * Applies a change to every view that has the product among its candidates. Only those views are visited.
+     *
+     * @param delta the change
+     * @return the number of views the delta was applied to
+     */
+    public int apply(final SimilarProductDelta delta) {
+        final Set<IncrementalSimilarProducts> candidateViews =
+                viewsByCandidate.getOrDefault(delta.getAsin(), Collections.emptySet());
+        int applied = 0;
+        for (IncrementalSimilarProducts view : candidateViews) {
+            if (view.apply(delta)) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Drops every view of a product, e.g. when its list of similar products is replaced.
+     *
+     * @param asin the product's ASIN
+     */
+    public void remove(final String asin) {
+        final Iterator<Map.Entry<Key, IncrementalSimilarProducts>> entries = views.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<Key, IncrementalSimilarProducts> entry = entries.next();
+            if (entry.getKey().asin.equals(asin) && views.remove(entry.getKey(), entry.getValue())) {
+                unindex(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * The number of views kept.
+     *
+     * @return the number of views
+     */
+    public int size() {
+        return views.size();
+    }
+
+    private void unindex(final IncrementalSimilarProducts view) {
+        for (String asin : view.candidateAsins()) {
+            viewsByCandidate.computeIfPresent(asin, (unused, candidateViews) -> {
+                candidateViews.remove(view);
+                return candidateViews.isEmpty() ? null : candidateViews;
+            });
+        }
+    }
+
+    /**
+     * The product and options a view is created for. The price range is a PriceRangeEnum for plain options, else the
+     * option itself.
+     */
+    private static final class Key {
+        private final String asin;
+        private final SortByEnum sortBy;
+        private final Object priceRange;
+        private final int acceptedMask;
+
+        Key(final String asin, final SortByEnum sortBy, final Object priceRange, final int acceptedMask) {
+            this.asin = asin;
+            this.sortBy = sortBy;
+            this.priceRange = priceRange;
+            this.acceptedMask = acceptedMask;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return asin.equals(key.asin) && sortBy == key.sortBy && priceRange.equals(key.priceRange)
+                    && acceptedMask == key.acceptedMask;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(asin, sortBy, priceRange, acceptedMask);
+        }
+    }
+}
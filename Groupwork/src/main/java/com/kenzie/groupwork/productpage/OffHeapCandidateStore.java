@@ -0,0 +1,288 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceCents;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramMask;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Similar product candidates stored off the heap, one column per field getSimilarProducts needs, so a very large
+ * candidate set costs the garbage collector two buffer objects instead of a ProductV2 graph per candidate.
+ *
+ * The columns live in direct ByteBuffers: price and benefit in cents, the {@link ShippingProgramMask}, flags, an
+ * ASIN group (candidates with the same ASIN share one) and the ASIN bytes. The store keeps no reference to the
+ * candidates. A query filters and sorts on the columns alone (see {@link PrimitiveKeySorter}) and hands only the
+ * rows of the page it returns to a {@link CandidateResolver}, which turns each back into the caller's product, e.g.
+ * by looking its ASIN up in a catalog.
+ *
+ * Results match {@link SimilarProductsEngine} in whole cents: prices are sorted as {@link PriceCents#toCents} of the
+ * candidate's price, and a flag marks prices with a fraction of a cent so range checks stay exact. Candidates that
+ * are null or have no price are stored as invalid; a missing benefit is stored as zero, like
+ * {@link ProductSnapshot}. Immutable once built, safe to share between threads.
+ */
+public final class OffHeapCandidateStore {
+
+    private static final int LONG_BYTES = Long.BYTES;
+    private static final int INT_BYTES = Integer.BYTES;
+    private static final byte FLAG_VALID = 1;
+    private static final byte FLAG_SUB_CENT_PRICE = 2;
+    private static final byte FLAG_HAS_ASIN = 4;
+
+    private final int size;
+    private final int benefitOffset;
+    private final int maskOffset;
+    private final int groupOffset;
+    private final int asinOffsetOffset;
+    private final int flagOffset;
+    private final ByteBuffer columns;
+    private final ByteBuffer asins;
+
+    private OffHeapCandidateStore(final int size, final int asinBytes) {
+        this.size = size;
+        this.benefitOffset = size * LONG_BYTES;
+        this.maskOffset = benefitOffset + size * LONG_BYTES;
+        this.groupOffset = maskOffset + size * INT_BYTES;
+        this.asinOffsetOffset = groupOffset + size * INT_BYTES;
+        this.flagOffset = asinOffsetOffset + (size + 1) * INT_BYTES;
+        this.columns = ByteBuffer.allocateDirect(flagOffset + size).order(ByteOrder.nativeOrder());
+        this.asins = ByteBuffer.allocateDirect(asinBytes);
+    }
+
+    /**
+     * Copies the candidates into a new store. Each candidate is read once; the store keeps no reference to it.
+     *
+     * @param candidates the similar products, may contain nulls
+     * @return the store, with one row per candidate in candidate order
+     */
+    public static OffHeapCandidateStore of(final List<ProductV2> candidates) {
+        final String[] asinOfRow = new String[candidates.size()];
+        final byte[][] asinBytes = new byte[candidates.size()][];
+        int totalAsinBytes = 0;
+        for (int row = 0; row < asinBytes.length; row++) {
+            final ProductV2 candidate = candidates.get(row);
+            asinOfRow[row] = candidate == null ? null : candidate.asin();
+            asinBytes[row] = asinOfRow[row] == null ? null : asinOfRow[row].getBytes(StandardCharsets.UTF_8);
+            totalAsinBytes += asinBytes[row] == null ? 0 : asinBytes[row].length;
+        }
+
+        final OffHeapCandidateStore store = new OffHeapCandidateStore(candidates.size(), totalAsinBytes);
+        final Map<String, Integer> groupByAsin = new HashMap<>();
+        int asinPosition = 0;
+        for (int row = 0; row < asinBytes.length; row++) {
+            store.columns.putInt(store.asinOffsetOffset + row * INT_BYTES, asinPosition);
+            if (asinBytes[row] != null) {
+                for (byte asinByte : asinBytes[row]) {
+                    store.asins.put(asinPosition++, asinByte);
+                }
+            }
+            final Integer group = asinOfRow[row] == null ? null : groupByAsin.putIfAbsent(asinOfRow[row], row);
+            store.columns.putInt(store.groupOffset + row * INT_BYTES, group == null ? row : group);
+            final ProductV2 candidate = candidates.get(row);
+            if (candidate != null) {
+                store.write(row, candidate, asinOfRow[row] != null);
+            }
+        }
+        store.columns.putInt(store.asinOffsetOffset + asinBytes.length * INT_BYTES, asinPosition);
+        return store;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of candidates stored, including nulls
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of off-heap bytes held.
+     *
+     * @return the capacity of the direct buffers
+     */
+    public long offHeapBytes() {
+        return (long) columns.capacity() + asins.capacity();
+    }
+
+    /**
+     * Returns every candidate that matches the filters, in sort order.
+     *
+     * @param sortBy sort by parameter, RELEVANCE keeps the candidate order
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @param resolver turns each matching row back into its product
+     * @return the resolved matching candidates
+     */
+    public List<ProductV2> query(final SortByEnum sortBy,
+                                 final PriceRangeOption priceRange,
+                                 final PrimeOption primeOption,
+                                 final CandidateResolver resolver) {
+        return query(sortBy, priceRange, primeOption, Integer.MAX_VALUE, resolver);
+    }
+
+    /**
+     * Returns the first page of candidates that match the filters, in sort order. Only the columns are read, and
+     * only the rows of the page are resolved.
+     *
+     * @param sortBy sort by parameter, RELEVANCE keeps the candidate order
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @param limit the maximum number of products to return
+     * @param resolver turns each row of the page back into its product
+     * @return at most limit resolved matching candidates; rows the resolver returns null for are left out
+     */
+    public List<ProductV2> query(final SortByEnum sortBy,
+                                 final PriceRangeOption priceRange,
+                                 final PrimeOption primeOption,
+                                 final int limit,
+                                 final CandidateResolver resolver) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be >= 0, got: " + limit);
+        }
+        final int[] rows = matchingRows(priceRange, SimilarProductFilter.acceptedMask(primeOption));
+        final int[] order = sortedPositions(rows, sortBy);
+
+        final int pageSize = Math.min(limit, order.length);
+        final List<ProductV2> page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            final int row = rows[order[i]];
+            final ProductV2 product = resolver.resolve(row, asin(row));
+            if (product != null) {
+                page.add(product);
+            }
+        }
+        return page;
+    }
+
+    private long priceCents(final int row) {
+        return columns.getLong(row * LONG_BYTES);
+    }
+
+    /**
+     * Returns the price of a row in cents, rounded down.
+     */
+    private long priceFloorCents(final int row) {
+        final long ceilingCents = priceCents(row);
+        return (columns.get(flagOffset + row) & FLAG_SUB_CENT_PRICE) == 0 ? ceilingCents : ceilingCents - 1;
+    }
+
+    private long benefitCents(final int row) {
+        return columns.getLong(benefitOffset + row * LONG_BYTES);
+    }
+
+    private int shippingMask(final int row) {
+        return columns.getInt(maskOffset + row * INT_BYTES);
+    }
+
+    private boolean isValid(final int row) {
+        return (columns.get(flagOffset + row) & FLAG_VALID) != 0;
+    }
+
+    /**
+     * Decodes the ASIN of a row.
+     *
+     * @param row the row
+     * @return the ASIN, null if the candidate had none
+     */
+    private String asin(final int row) {
+        if ((columns.get(flagOffset + row) & FLAG_HAS_ASIN) == 0) {
+            return null;
+        }
+        final int from = columns.getInt(asinOffsetOffset + row * INT_BYTES);
+        final int to = columns.getInt(asinOffsetOffset + (row + 1) * INT_BYTES);
+        final byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = asins.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void write(final int row, final ProductV2 candidate, final boolean hasAsin) {
+        final BigDecimal price = candidate.getPrice();
+        final BigDecimal benefit = candidate.getTotalBenefitAmount();
+        int flags = hasAsin ? FLAG_HAS_ASIN : 0;
+        if (price != null) {
+            final long ceilingCents = PriceCents.toCents(price);
+            if (PriceCents.floorCents(price) != ceilingCents) {
+                flags |= FLAG_SUB_CENT_PRICE;
+            }
+            if (candidate.isValid()) {
+                flags |= FLAG_VALID;
+            }
+            columns.putLong(row * LONG_BYTES, ceilingCents);
+        }
+        columns.putLong(benefitOffset + row * LONG_BYTES, benefit == null ? 0 : PriceCents.toCents(benefit));
+        columns.put(flagOffset + row, (byte) flags);
+        columns.putInt(maskOffset + row * INT_BYTES, ShippingProgramMask.of(candidate.getShippingPrograms()));
+    }
+
+    /**
+     * Keeps the valid rows within the price range that ship with an accepted program, the first of each ASIN.
+     */
+    private int[] matchingRows(final PriceRangeOption priceRange, final int acceptedMask) {
+        if (acceptedMask == ShippingProgramMask.NONE) {
+            return new int[0];
+        }
+        final int[] rows = new int[size];
+        int count = 0;
+        final BitSet seenGroups = new BitSet(size);
+        for (int row = 0; row < size; row++) {
+            if (isValid(row)
+                    && ShippingProgramMask.intersects(acceptedMask, shippingMask(row))
+                    && priceRange.priceIsWithinCents(priceFloorCents(row), priceCents(row))) {
+                final int group = columns.getInt(groupOffset + row * INT_BYTES);
+                if (!seenGroups.get(group)) {
+                    seenGroups.set(group);
+                    rows[count++] = row;
+                }
+            }
+        }
+        final int[] matching = new int[count];
+        System.arraycopy(rows, 0, matching, 0, count);
+        return matching;
+    }
+
+    private int[] sortedPositions(final int[] rows, final SortByEnum sortBy) {
+        if (sortBy == null || sortBy == SortByEnum.RELEVANCE || rows.length < 2) {
+            final int[] identity = new int[rows.length];
+            for (int i = 0; i < identity.length; i++) {
+                identity[i] = i;
+            }
+            return identity;
+        }
+        final boolean byPrice = sortBy == SortByEnum.PRICE_LOW_TO_HIGH || sortBy == SortByEnum.PRICE_HIGH_TO_LOW;
+        final long[] keys = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            keys[i] = byPrice ? priceCents(rows[i]) : benefitCents(rows[i]);
+        }
+        final boolean descending = sortBy == SortByEnum.PRICE_HIGH_TO_LOW || sortBy == SortByEnum.REWARD_HIGH_TO_LOW;
+        return PrimitiveKeySorter.sortPositions(keys, descending);
+    }
+
+    /**
+     * Turns a stored row back into the caller's product.
+     */
+    @FunctionalInterface
+    public interface CandidateResolver {
+        /**
+         * Returns the product stored in a row.
+         *
+         * @param row the row, which is the candidate's index in the list the store was built from
+         * @param asin the candidate's ASIN, null if it had none
+         * @return the product, or null to leave the row out
+         */
+        ProductV2 resolve(int row, String asin);
+    }
+}
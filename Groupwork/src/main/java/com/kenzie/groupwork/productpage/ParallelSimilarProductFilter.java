@@ -0,0 +1,106 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a {@link SimilarProductFilter} over large candidate lists on a fork/join pool.
+ *
+ * The candidates are cut into fixed-size chunks. Each leaf task filters its own chunks into its own lists, so no
+ * list is shared between threads. The chunk lists are then concatenated in chunk order and deduplicated by ASIN on
+ * the calling thread, which gives exactly the products, and the order, of the sequential filter.
+ */
+final class ParallelSimilarProductFilter {
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates a parallel filter.
+     *
+     * @param pool the pool the chunks are filtered on
+     * @param chunkSize how many candidates one leaf task filters
+     */
+    ParallelSimilarProductFilter(final ForkJoinPool pool, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive, was " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Keeps the candidates that match the filter, the first for each ASIN.
+     *
+     * @param candidates the products to filter
+     * @param filter the filter, shared read-only by every task
+     * @return the matching products, in candidate order
+     */
+    List<ProductV2> filter(final List<ProductV2> candidates, final SimilarProductFilter filter) {
+        final List<ProductV2> indexed = candidates instanceof RandomAccess ? candidates : new ArrayList<>(candidates);
+        final int chunkCount = (indexed.size() + chunkSize - 1) / chunkSize;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final List<ProductV2>[] chunks = new List[chunkCount];
+        pool.invoke(new FilterChunks(indexed, filter, chunks, 0, chunkCount));
+
+        final UniqueAsins uniqueAsins = new UniqueAsins();
+        final List<ProductV2> matchingProducts = new ArrayList<>();
+        for (List<ProductV2> chunk : chunks) {
+            for (ProductV2 candidate : chunk) {
+                if (uniqueAsins.add(candidate)) {
+                    matchingProducts.add(candidate);
+                }
+            }
+        }
+        return matchingProducts;
+    }
+
+    /**
+     * Filters chunks [fromChunk, toChunk), splitting in half until a single chunk is left.
+     */
+    private final class FilterChunks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<ProductV2> candidates;
+        private final transient SimilarProductFilter filter;
+        private final transient List<ProductV2>[] chunks;
+        private final int fromChunk;
+        private final int toChunk;
+
+        FilterChunks(final List<ProductV2> candidates, final SimilarProductFilter filter,
+                     final List<ProductV2>[] chunks, final int fromChunk, final int toChunk) {
+            this.candidates = candidates;
+            this.filter = filter;
+            this.chunks = chunks;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                final int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new FilterChunks(candidates, filter, chunks, fromChunk, middle),
+                        new FilterChunks(candidates, filter, chunks, middle, toChunk));
+                return;
+            }
+            for (int chunk = fromChunk; chunk < toChunk; chunk++) {
+                final int from = chunk * chunkSize;
+                final int to = Math.min(from + chunkSize, candidates.size());
+                final List<ProductV2> matches = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    final ProductV2 candidate = candidates.get(i);
+                    if (filter.matches(candidate)) {
+                        matches.add(candidate);
+                    }
+                }
+                chunks[chunk] = matches;
+            }
+        }
+    }
+}
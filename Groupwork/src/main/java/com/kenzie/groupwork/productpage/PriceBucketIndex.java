@@ -0,0 +1,99 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceCents;
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buckets a similar products list by {@link PriceRangeEnum}, so a price filter is a bucket lookup instead of a
+ * BigDecimal comparison per product on every page view.
+ *
+ * Build it once per similar products list. Each bucket keeps the list order. The ranges in
+ * {@link PriceRangeOption#RANGES} are inclusive at both ends, so a price on a boundary (like $25) is in both
+ * neighbouring buckets, the same as {@link PriceRangeOption#priceIsWithin(BigDecimal)}.
+ * Null products and products without a price are left out of every bucket.
+ */
+public final class PriceBucketIndex {
+
+    private static final Map<PriceRangeEnum, PriceRangeOption> OPTIONS = createOptions();
+
+    private final Map<PriceRangeEnum, List<ProductV2>> buckets;
+
+    private PriceBucketIndex(final Map<PriceRangeEnum, List<ProductV2>> buckets) {
+        this.buckets = buckets;
+    }
+
+    /**
+     * Indexes a similar products list.
+     *
+     * @param similarProducts the products to index, may be null
+     * @return the index
+     */
+    public static PriceBucketIndex of(final List<ProductV2> similarProducts) {
+        final Map<PriceRangeEnum, List<ProductV2>> buckets = new EnumMap<>(PriceRangeEnum.class);
+        for (PriceRangeEnum range : PriceRangeEnum.values()) {
+            buckets.put(range, new ArrayList<>());
+        }
+
+        if (similarProducts != null) {
+            for (ProductV2 product : similarProducts) {
+                final BigDecimal price = product == null ? null : product.getPrice();
+                if (price != null) {
+                    addToBuckets(buckets, product, PriceCents.floorCents(price), PriceCents.toCents(price));
+                }
+            }
+        }
+
+        for (Map.Entry<PriceRangeEnum, List<ProductV2>> bucket : buckets.entrySet()) {
+            bucket.setValue(Collections.unmodifiableList(bucket.getValue()));
+        }
+        return new PriceBucketIndex(buckets);
+    }
+
+    /**
+     * Returns the products priced within a range, in list order.
+     *
+     * @param priceRange price range filter
+     * @return unmodifiable list of products within the range
+     */
+    public List<ProductV2> productsWithin(final PriceRangeOption priceRange) {
+        return productsWithin(priceRange.getValue());
+    }
+
+    /**
+     * Returns the products priced within a range, in list order.
+     *
+     * @param priceRange price range
+     * @return unmodifiable list of products within the range
+     */
+    public List<ProductV2> productsWithin(final PriceRangeEnum priceRange) {
+        return buckets.get(priceRange);
+    }
+
+    private static void addToBuckets(final Map<PriceRangeEnum, List<ProductV2>> buckets,
+                                     final ProductV2 product,
+                                     final long floorCents,
+                                     final long ceilingCents) {
+        for (Map.Entry<PriceRangeEnum, PriceRangeOption> option : OPTIONS.entrySet()) {
+            if (option.getValue().priceIsWithinCents(floorCents, ceilingCents)) {
+                buckets.get(option.getKey()).add(product);
+            }
+        }
+    }
+
+    private static Map<PriceRangeEnum, PriceRangeOption> createOptions() {
+        final Map<PriceRangeEnum, PriceRangeOption> options = new EnumMap<>(PriceRangeEnum.class);
+        for (PriceRangeEnum range : PriceRangeEnum.values()) {
+            options.put(range, new PriceRangeOption(range));
+        }
+        return options;
+    }
+}
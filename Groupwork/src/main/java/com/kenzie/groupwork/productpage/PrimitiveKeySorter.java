@@ -0,0 +1,125 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceCents;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorts similar products by price or reward using primitive keys instead of a BigDecimal comparator.
+ *
+ * The sort key of every product is read once into a long[] of cents, then the list positions are sorted by that
+ * array and mapped back to the products. When the key range leaves room, each key and its position are packed into
+ * one long and sorted with {@link Arrays#sort(long[])}; otherwise the positions are merge sorted by key.
+ * Both are stable, so ties keep their original order like {@link List#sort(java.util.Comparator)}.
+ *
+ * Keys are whole cents (see {@link PriceCents}): amounts less than a cent apart sort as ties.
+ */
+final class PrimitiveKeySorter {
+
+    private PrimitiveKeySorter() {
+    }
+
+    /**
+     * Sorts the products.
+     *
+     * @param products the products to sort, none may be null
+     * @param sortBy sort by parameter, RELEVANCE keeps the original order
+     * @return a new sorted list
+     */
+    static List<ProductV2> sort(final List<ProductV2> products, final SortByEnum sortBy) {
+        final ProductV2[] items = products.toArray(new ProductV2[0]);
+        if (sortBy == null || sortBy == SortByEnum.RELEVANCE || items.length < 2) {
+            return new ArrayList<>(Arrays.asList(items));
+        }
+
+        final long[] keys = new long[items.length];
+        final boolean byPrice = sortBy == SortByEnum.PRICE_LOW_TO_HIGH || sortBy == SortByEnum.PRICE_HIGH_TO_LOW;
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = PriceCents.toCents(byPrice ? items[i].getPrice() : items[i].getTotalBenefitAmount());
+        }
+        final boolean descending = sortBy == SortByEnum.PRICE_HIGH_TO_LOW || sortBy == SortByEnum.REWARD_HIGH_TO_LOW;
+
+        final int[] order = sortPositions(keys, descending);
+        final List<ProductV2> sorted = new ArrayList<>(items.length);
+        for (int position : order) {
+            sorted.add(items[position]);
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns the positions of keys in stable sort order.
+     *
+     * @param keys the sort keys
+     * @param descending true to sort from the highest key
+     * @return the sorted positions
+     */
+    static int[] sortPositions(final long[] keys, final boolean descending) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+
+        final int positionBits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(keys.length - 1));
+        final long range = max - min;
+        if (keys.length == 0 || range < 0 || range >= 1L << (Long.SIZE - 1 - positionBits)) {
+            return mergeSortPositions(keys, descending);
+        }
+
+        // Packing the position into the low bits makes equal keys sort by position: a stable sort.
+        final long[] packed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final long offset = descending ? max - keys[i] : keys[i] - min;
+            packed[i] = offset << positionBits | i;
+        }
+        Arrays.sort(packed);
+
+        final long positionMask = (1L << positionBits) - 1;
+        final int[] positions = new int[keys.length];
+        for (int i = 0; i < packed.length; i++) {
+            positions[i] = (int) (packed[i] & positionMask);
+        }
+        return positions;
+    }
+
+    private static int[] mergeSortPositions(final long[] keys, final boolean descending) {
+        int[] positions = new int[keys.length];
+        Arrays.setAll(positions, i -> i);
+        int[] buffer = new int[keys.length];
+        for (int width = 1; width < keys.length; width *= 2) {
+            for (int left = 0; left < keys.length; left += 2 * width) {
+                final int middle = Math.min(left + width, keys.length);
+                final int right = Math.min(left + 2 * width, keys.length);
+                merge(keys, descending, positions, buffer, left, middle, right);
+            }
+            final int[] swap = positions;
+            positions = buffer;
+            buffer = swap;
+        }
+        return positions;
+    }
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    private static void merge(final long[] keys, final boolean descending, final int[] from, final int[] to,
+                              final int left, final int middle, final int right) {
+        int i = left;
+        int j = middle;
+        for (int k = left; k < right; k++) {
+            if (j >= right || i < middle && !isBefore(keys[from[j]], keys[from[i]], descending)) {
+                to[k] = from[i++];
+            } else {
+                to[k] = from[j++];
+            }
+        }
+    }
+
+    private static boolean isBefore(final long key, final long other, final boolean descending) {
+        return descending ? key > other : key < other;
+    }
+}
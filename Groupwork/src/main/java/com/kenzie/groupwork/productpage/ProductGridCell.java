@@ -0,0 +1,35 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.util.Optional;
+
+/**
+ * One product of a search result grid, as rendered by {@link ProductGridRenderer}.
+ */
+public final class ProductGridCell {
+
+    private final ProductV2 product;
+    private final Optional<ProductV2.BuyingOption> buyingOption;
+    private final Optional<String> mainImageUrl;
+
+    ProductGridCell(final ProductV2 product,
+                    final Optional<ProductV2.BuyingOption> buyingOption,
+                    final Optional<String> mainImageUrl) {
+        this.product = product;
+        this.buyingOption = buyingOption;
+        this.mainImageUrl = mainImageUrl;
+    }
+
+    public ProductV2 getProduct() {
+        return product;
+    }
+
+    public Optional<ProductV2.BuyingOption> getBuyingOption() {
+        return buyingOption;
+    }
+
+    public Optional<String> getMainImageUrl() {
+        return mainImageUrl;
+    }
+}
@@ -0,0 +1,133 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Renders the products of a search result grid on a fork/join pool: the winning buying option and the main image
+ * URL of each product.
+ *
+ * The grid is split in halves down to leaves of a few products, so idle workers steal the remaining halves. Each
+ * leaf writes its cells into its own slots of one array, which keeps the input order without any merging. Every
+ * product shares the renderer's StyledMediaUrlCache and, if given, BuyingOptionService, so a product that appears on
+ * many grids is only ranked once.
+ */
+public class ProductGridRenderer {
+
+    /**
+     * Products per leaf task: a 48 product grid becomes 6 tasks, enough to keep a few workers busy.
+     */
+    public static final int DEFAULT_LEAF_SIZE = 8;
+
+    private final ForkJoinPool pool;
+    private final int leafSize;
+    private final StyledMediaUrlCache urlCache;
+    private final BuyingOptionService buyingOptionService;
+
+    /**
+     * Creates a renderer on the common pool that builds image URLs and picks the first buying option, like
+     * ProductPage.
+     */
+    public ProductGridRenderer() {
+        this(ForkJoinPool.commonPool(), DEFAULT_LEAF_SIZE, null, null);
+    }
+
+    /**
+     * Creates a renderer.
+     *
+     * @param pool the pool to render on
+     * @param leafSize how many products one task renders
+     * @param urlCache the image URL cache, or null to always build URLs
+     * @param buyingOptionService picks the buying option, or null to take the first one like ProductPage
+     */
+    public ProductGridRenderer(final ForkJoinPool pool,
+                               final int leafSize,
+                               final StyledMediaUrlCache urlCache,
+                               final BuyingOptionService buyingOptionService) {
+        if (leafSize < 1) {
+            throw new IllegalArgumentException("leafSize must be positive, was " + leafSize);
+        }
+        this.pool = pool;
+        this.leafSize = leafSize;
+        this.urlCache = urlCache;
+        this.buyingOptionService = buyingOptionService;
+    }
+
+    /**
+     * Renders a grid.
+     *
+     * @param products the products, in display order; a null product gives a cell with nothing in it
+     * @param longestDimension the size of the longest dimension of the images
+     * @return an unmodifiable list of one cell per product, in input order
+     */
+    public List<ProductGridCell> render(final List<ProductV2> products, final Integer longestDimension) {
+        final List<ProductV2> indexed = products instanceof RandomAccess ? products : new ArrayList<>(products);
+        final ProductGridCell[] cells = new ProductGridCell[indexed.size()];
+        final RenderCells task = new RenderCells(indexed, longestDimension, cells, 0, cells.length);
+        if (cells.length <= leafSize) {
+            task.renderRange();
+        } else {
+            pool.invoke(task);
+        }
+        return Collections.unmodifiableList(Arrays.asList(cells));
+    }
+
+    private ProductGridCell renderCell(final ProductV2 product, final Integer longestDimension) {
+        if (product == null) {
+            return new ProductGridCell(null, Optional.empty(), Optional.empty());
+        }
+        final ProductPage productPage = new ProductPage(product, urlCache);
+        final Optional<ProductV2.BuyingOption> buyingOption = buyingOptionService == null
+                ? productPage.getFirstBuyingOption()
+                : buyingOptionService.winner(product);
+        return new ProductGridCell(product, buyingOption, productPage.extractMainImageUrl(longestDimension));
+    }
+
+    /**
+     * Renders the cells [from, to), splitting in half until a leaf is left.
+     */
+    private final class RenderCells extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<ProductV2> products;
+        private final Integer longestDimension;
+        private final transient ProductGridCell[] cells;
+        private final int from;
+        private final int to;
+
+        RenderCells(final List<ProductV2> products, final Integer longestDimension,
+                    final ProductGridCell[] cells, final int from, final int to) {
+            this.products = products;
+            this.longestDimension = longestDimension;
+            this.cells = cells;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new RenderCells(products, longestDimension, cells, from, middle),
+                        new RenderCells(products, longestDimension, cells, middle, to));
+                return;
+            }
+            renderRange();
+        }
+
+        void renderRange() {
+            for (int i = from; i < to; i++) {
+                cells[i] = renderCell(products.get(i), longestDimension);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.util.Optional;
+
+/**
+ * The main and LOOK image URLs of one product, as returned by {@link ProductPage#extractMainImageUrl(Integer)} and
+ * {@link ProductPage#extractLookImageUrl(Integer)}.
+ */
+public final class ProductImageUrls {
+
+    private final ProductV2 product;
+    private final Optional<String> mainImageUrl;
+    private final Optional<String> lookImageUrl;
+
+    ProductImageUrls(final ProductV2 product,
+                     final Optional<String> mainImageUrl,
+                     final Optional<String> lookImageUrl) {
+        this.product = product;
+        this.mainImageUrl = mainImageUrl;
+        this.lookImageUrl = lookImageUrl;
+    }
+
+    public ProductV2 getProduct() {
+        return product;
+    }
+
+    public Optional<String> getMainImageUrl() {
+        return mainImageUrl;
+    }
+
+    public Optional<String> getLookImageUrl() {
+        return lookImageUrl;
+    }
+}
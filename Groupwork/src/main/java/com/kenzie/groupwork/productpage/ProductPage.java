@@ -1,19 +1,22 @@
 package com.kenzie.groupwork.productpage;
 
+import com.kenzie.groupwork.productpage.metrics.ProductPageMetrics;
+import com.kenzie.groupwork.productpage.metrics.ProductPageOperation;
+import com.kenzie.groupwork.productpage.metrics.SimilarProductsStage;
 import com.kenzie.groupwork.productpage.types.PriceRangeOption;
 import com.kenzie.groupwork.productpage.types.PrimeOption;
 import com.kenzie.groupwork.productpage.types.ProductImagesV2;
 import com.kenzie.groupwork.productpage.types.ProductV2;
 import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
 import com.kenzie.groupwork.productpage.types.SortByEnum;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static com.kenzie.groupwork.productpage.types.SortByEnum.PRICE_HIGH_TO_LOW;
-import static com.kenzie.groupwork.productpage.types.SortByEnum.PRICE_LOW_TO_HIGH;
-import static com.kenzie.groupwork.productpage.types.SortByEnum.REWARD_HIGH_TO_LOW;
-import static com.kenzie.groupwork.productpage.types.SortByEnum.REWARD_LOW_TO_HIGH;
+import static com.kenzie.groupwork.productpage.SimilarProductComparators.passthroughComparator;
 
 public class ProductPage {
 
@@ -21,10 +24,39 @@ public class ProductPage {
 
     private final ProductV2 productV2;
 
-    private final Map<SortByEnum, Comparator<ProductV2>> comparatorForSortBy = createSortComparatorMap();
+    private final Map<SortByEnum, Comparator<ProductV2>> comparatorForSortBy =
+            SimilarProductComparators.createSortComparatorMap();
+
+    private final StyledMediaUrlCache urlCache;
+
+    private final ProductPageMetrics metrics;
 
     public ProductPage(ProductV2 productV2) {
+        this(productV2, null);
+    }
+
+    /**
+     * Creates a ProductPage that looks image URLs up in a shared cache instead of building them every time.
+     *
+     * @param productV2 the product to display.
+     * @param urlCache the image URL cache, or null to always build URLs.
+     */
+    public ProductPage(ProductV2 productV2, StyledMediaUrlCache urlCache) {
+        this(productV2, urlCache, ProductPageMetrics.NO_OP);
+    }
+
+    /**
+     * Creates a ProductPage that reports the latency of each method, the candidates left after each similar
+     * products filter stage and its StyledMedia builds to a metrics sink.
+     *
+     * @param productV2 the product to display.
+     * @param urlCache the image URL cache, or null to always build URLs.
+     * @param metrics the sink, ProductPageMetrics.NO_OP to measure nothing.
+     */
+    public ProductPage(ProductV2 productV2, StyledMediaUrlCache urlCache, ProductPageMetrics metrics) {
         this.productV2 = productV2;
+        this.urlCache = urlCache;
+        this.metrics = Objects.requireNonNull(metrics, "metrics is required");
     }
 
     public ProductV2 getProduct() {
@@ -41,10 +73,13 @@ public class ProductPage {
      * @return An Optional with the winning BuyingOption, or empty if none.
      */
     public Optional<ProductV2.BuyingOption> getFirstBuyingOption() {
+        final long start = startTimer();
 
-        return Optional.of(productV2.buyingOptions()
+        final Optional<ProductV2.BuyingOption> buyingOption = Optional.of(productV2.buyingOptions()
                 .stream()
                 .findFirst()).orElse(Optional.empty());
+        stopTimer(ProductPageOperation.GET_FIRST_BUYING_OPTION, start);
+        return buyingOption;
     }
 
     /**
@@ -61,8 +96,9 @@ public class ProductPage {
      * @return Optional containing the image URL, or empty if no image exists.
      */
     public Optional<String> extractMainImageUrl(Integer longestDimension) {
+        final long start = startTimer();
 
-        return Optional.of(productV2.productImages()
+        final Optional<String> imageUrl = Optional.of(productV2.productImages()
                 .map(ProductImagesV2::images)
                 .stream()
                 .flatMap(images -> images.stream()
@@ -70,6 +106,8 @@ public class ProductPage {
                         .map(image -> extractImageUrl(image, longestDimension)))
                 .filter(Objects::nonNull)
                 .findFirst()).orElse(Optional.empty());
+        stopTimer(ProductPageOperation.EXTRACT_MAIN_IMAGE_URL, start);
+        return imageUrl;
     }
 
     /**
@@ -83,8 +121,9 @@ public class ProductPage {
      * @return An Optional containing the URL of the image, or empty if no image exists.
      */
     public Optional<String> extractLookImageUrl(Integer longestDimension) {
+        final long start = startTimer();
 
-        return Optional.of(productV2.productImages()
+        final Optional<String> imageUrl = Optional.of(productV2.productImages()
                 .map(ProductImagesV2::images)
                 .stream()
                 .flatMap(images -> images.stream()
@@ -92,6 +131,8 @@ public class ProductPage {
                         .map(image -> extractImageUrl(image, longestDimension)))
                 .filter(Objects::nonNull)
                 .findFirst()).orElse(Optional.empty());
+        stopTimer(ProductPageOperation.EXTRACT_LOOK_IMAGE_URL, start);
+        return imageUrl;
     }
 
     /**
@@ -109,50 +150,137 @@ public class ProductPage {
     public List<ProductV2> getSimilarProducts(final SortByEnum sortBy,
                                               final PriceRangeOption priceRange,
                                               final PrimeOption primeOption) {
+        final long start = startTimer();
+
+        final List<ProductV2> matchingProducts = filterSimilarProducts(priceRange, primeOption);
+        matchingProducts.sort(comparatorForSortBy.getOrDefault(sortBy, passthroughComparator()));
+
+        stopTimer(ProductPageOperation.GET_SIMILAR_PRODUCTS, start);
+        return matchingProducts;
+    }
+
+    /**
+     * Get products to display from AAPI with a compiled query, e.g. one shared through a
+     * {@link SimilarProductsQueryCache}. Returns the same products as
+     * {@link #getSimilarProducts(SortByEnum, PriceRangeOption, PrimeOption)} for the query's options. Only the
+     * latency is measured: the compiled checks are not split into stages.
+     *
+     * @param query the compiled sort and filters
+     * @return list of products
+     */
+    public List<ProductV2> getSimilarProducts(final SimilarProductsQuery query) {
+        final long start = startTimer();
 
+        final List<ProductV2> matchingProducts = query.apply(productV2.getSimilarProducts());
+        stopTimer(ProductPageOperation.GET_SIMILAR_PRODUCTS, start);
+        return matchingProducts;
+    }
+
+    /**
+     * Get the first page of products to display from AAPI.
+     *
+     * Returns the same products as {@link #getSimilarProducts(SortByEnum, PriceRangeOption, PrimeOption)} cut to
+     * the first {@code limit}, but only keeps the best {@code limit} products while sorting (O(n log k)).
+     * RELEVANCE keeps the original order, so it simply takes the first {@code limit} matches.
+     *
+     * @param sortBy sort by parameter
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @param limit the maximum number of products to return, usually the page size
+     * @return list of at most limit products
+     */
+    public List<ProductV2> getSimilarProducts(final SortByEnum sortBy,
+                                              final PriceRangeOption priceRange,
+                                              final PrimeOption primeOption,
+                                              final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be >= 0, got: " + limit);
+        }
+        final long start = startTimer();
+
+        final List<ProductV2> matchingProducts = filterSimilarProducts(priceRange, primeOption);
+        final Comparator<ProductV2> comparator = comparatorForSortBy.get(sortBy);
+        final List<ProductV2> page = comparator == null
+                ? new ArrayList<>(matchingProducts.subList(0, Math.min(limit, matchingProducts.size())))
+                : TopKSelector.select(matchingProducts, comparator, limit);
+        stopTimer(ProductPageOperation.GET_SIMILAR_PRODUCTS, start);
+        return page;
+    }
+
+    /**
+     * Returns the valid similar products that match the price and prime filters, in their original order.
+     */
+    private List<ProductV2> filterSimilarProducts(final PriceRangeOption priceRange,
+                                                  final PrimeOption primeOption) {
         final List<ProductV2> matchingProducts = new ArrayList<>();
+        final int[] stageCounts = metrics.isEnabled() ? new int[SimilarProductsStage.values().length] : null;
         if (productV2.getSimilarProducts() != null) {
-            Optional.ofNullable(productV2.getSimilarProducts())
+            final Stream<ProductV2> candidates = countStage(Optional.ofNullable(productV2.getSimilarProducts())
                     .orElse(Collections.emptyList())
-                    .stream()
-                    .filter(product -> Objects.nonNull(product) && product.isValid() && priceRange.priceIsWithin(product.getPrice()))
+                    .stream(), stageCounts, SimilarProductsStage.CANDIDATES);
+            final Stream<ProductV2> valid = countStage(candidates
+                    .filter(product -> Objects.nonNull(product) && product.isValid()),
+                    stageCounts, SimilarProductsStage.VALID);
+            countStage(valid.filter(product -> priceRange.priceIsWithin(product.getPrice())),
+                    stageCounts, SimilarProductsStage.PRICE_IN_RANGE)
                     .forEach(product -> product.getShippingPrograms()
                             .forEach(shippingProgram -> {
                                 if (primeOption.matches(shippingProgram) && !matchingProducts.contains(product)) {
                                     matchingProducts.add(product);
                                 }}));
-            matchingProducts.sort(comparatorForSortBy.getOrDefault(sortBy, passthroughComparator()));
         }
 
+        if (stageCounts != null) {
+            stageCounts[SimilarProductsStage.SHIPPING_MATCHED.ordinal()] = matchingProducts.size();
+            for (SimilarProductsStage stage : SimilarProductsStage.values()) {
+                metrics.recordStageCount(stage, stageCounts[stage.ordinal()]);
+            }
+        }
         return matchingProducts;
     }
 
+    /**
+     * Counts the products that reach a filter stage, when measuring.
+     */
+    private static Stream<ProductV2> countStage(final Stream<ProductV2> products,
+                                                final int[] stageCounts,
+                                                final SimilarProductsStage stage) {
+        return stageCounts == null ? products : products.peek(product -> stageCounts[stage.ordinal()]++);
+    }
+
+    /**
+     * Reads the clock, only when measuring.
+     */
+    long startTimer() {
+        return metrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    void stopTimer(final ProductPageOperation operation, final long start) {
+        if (metrics.isEnabled()) {
+            metrics.recordLatency(operation, System.nanoTime() - start);
+        }
+    }
+
     /**
      * Extracts the image URL from a ProductImageV2.Image.
      */
     private String extractImageUrl(ProductImagesV2.Image image, Integer longest) {
         // Looks like a Stream or Optional, but it's a Builder.
-        return image.lowRes().styleBuilder()
-            .scaleToLongest(longest)
-            .build()
-            .url();
+        final StyledMedia.Builder builder = image.lowRes().styleBuilder()
+            .scaleToLongest(longest);
+        return imageUrl(builder);
     }
 
     /**
-     * Returns a Comparator that does not change order.
-     * @param <T> The type of item this Comparator will compare.
-     * @return a Comparator that does not change order.
+     * Builds, or looks up in the URL cache, the URL of a configured image.
      */
-    private <T> Comparator<T> passthroughComparator() {
-        return Comparator.comparing(other -> 0);
-    }
-
-    private Map<SortByEnum, Comparator<ProductV2>> createSortComparatorMap() {
-        Map<SortByEnum, Comparator<ProductV2>> comparatorMap = new HashMap<>();
-        comparatorMap.put(REWARD_LOW_TO_HIGH, Comparator.comparing(ProductV2::getTotalBenefitAmount));
-        comparatorMap.put(REWARD_HIGH_TO_LOW, Comparator.comparing(ProductV2::getTotalBenefitAmount).reversed());
-        comparatorMap.put(PRICE_LOW_TO_HIGH, Comparator.comparing(ProductV2::getPrice));
-        comparatorMap.put(PRICE_HIGH_TO_LOW, Comparator.comparing(ProductV2::getPrice).reversed());
-        return comparatorMap;
+    String imageUrl(StyledMedia.Builder builder) {
+        if (urlCache != null) {
+            return urlCache.url(builder);
+        }
+        if (metrics.isEnabled()) {
+            metrics.recordStyledMediaBuilds(1);
+        }
+        return builder.build().url();
     }
 }
@@ -0,0 +1,62 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Assembles product pages section by section: the first buying option, the main and LOOK image URLs and the
+ * similar products.
+ *
+ * Nothing is computed when a page is assembled. Each section starts on the executor the first time it is asked for,
+ * and each has its own future, so a renderer can write the cheap sections as soon as they complete while a large
+ * similar products list is still being filtered. See {@link AssembledProductPage}.
+ */
+public class ProductPageAssembler {
+
+    private final Executor executor;
+    private final StyledMediaUrlCache urlCache;
+
+    /**
+     * Creates an assembler that runs the sections on the executor.
+     *
+     * @param executor runs the sections
+     */
+    public ProductPageAssembler(final Executor executor) {
+        this(executor, null);
+    }
+
+    /**
+     * Creates an assembler that runs the sections on the executor, and looks image URLs up in a shared cache.
+     *
+     * @param executor runs the sections
+     * @param urlCache the image URL cache, or null to always build URLs
+     */
+    public ProductPageAssembler(final Executor executor, final StyledMediaUrlCache urlCache) {
+        this.executor = executor;
+        this.urlCache = urlCache;
+    }
+
+    /**
+     * Prepares the sections of a product's page. No section is computed until it is asked for.
+     *
+     * @param product the product
+     * @param longestDimension the size of the longest dimension of the images
+     * @param sortBy similar products sort by parameter
+     * @param priceRange similar products price range filter
+     * @param primeOption similar products prime filter
+     * @return the page, whose sections start on first use
+     */
+    public AssembledProductPage assemble(final ProductV2 product,
+                                         final int longestDimension,
+                                         final SortByEnum sortBy,
+                                         final PriceRangeOption priceRange,
+                                         final PrimeOption primeOption) {
+        return new AssembledProductPage(new ProductPage(product, urlCache), executor, longestDimension,
+                sortBy, priceRange, primeOption);
+    }
+}
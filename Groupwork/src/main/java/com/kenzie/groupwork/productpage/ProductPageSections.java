@@ -0,0 +1,43 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Every section of a product page, as completed by {@link AssembledProductPage#all()}.
+ */
+public final class ProductPageSections {
+
+    private final Optional<ProductV2.BuyingOption> firstBuyingOption;
+    private final Optional<String> mainImageUrl;
+    private final Optional<String> lookImageUrl;
+    private final List<ProductV2> similarProducts;
+
+    ProductPageSections(final Optional<ProductV2.BuyingOption> firstBuyingOption,
+                        final Optional<String> mainImageUrl,
+                        final Optional<String> lookImageUrl,
+                        final List<ProductV2> similarProducts) {
+        this.firstBuyingOption = firstBuyingOption;
+        this.mainImageUrl = mainImageUrl;
+        this.lookImageUrl = lookImageUrl;
+        this.similarProducts = similarProducts;
+    }
+
+    public Optional<ProductV2.BuyingOption> getFirstBuyingOption() {
+        return firstBuyingOption;
+    }
+
+    public Optional<String> getMainImageUrl() {
+        return mainImageUrl;
+    }
+
+    public Optional<String> getLookImageUrl() {
+        return lookImageUrl;
+    }
+
+    public List<ProductV2> getSimilarProducts() {
+        return similarProducts;
+    }
+}
@@ -0,0 +1,189 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.metrics.ProductPageMetrics;
+import com.kenzie.groupwork.productpage.types.PriceCents;
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramMask;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable, flattened copy of everything the product page reads from a {@link ProductV2}.
+ *
+ * Every value is read through the interface once, when the snapshot is taken, and kept in primitive arrays: one
+ * entry per image (variant code, width, height) and one per similar product (price and reward in cents, shipping
+ * program mask, valid flag). Queries over the snapshot, see {@link #productPage()}, walk those arrays without
+ * calling back into ProductV2, unboxing or comparing BigDecimals.
+ *
+ * Image variants are indexed by their packed 4-character codes, see {@link ImageVariantIndex}.
+ *
+ * Prices and rewards are whole cents (see {@link PriceCents}): amounts less than a cent apart sort as ties. Prices
+ * are kept rounded both down and up, so price range checks stay exact. A similar product without a price is treated
+ * as not valid, and a missing reward as zero.
+ */
+public final class ProductSnapshot {
+
+    private final ProductV2 product;
+    private final String asin;
+    private final Optional<ProductV2.BuyingOption> firstBuyingOption;
+
+    private final ImageVariantIndex imageVariants;
+    private final int[] imageWidths;
+    private final int[] imageHeights;
+
+    private final boolean hasSimilarProducts;
+    private final ProductV2[] similarProducts;
+    private final long[] similarPriceCents;
+    private final long[] similarPriceFloorCents;
+    private final long[] similarBenefitCents;
+    private final int[] similarShippingMasks;
+    private final boolean[] similarValid;
+
+    private ProductSnapshot(final ProductV2 product) {
+        this.product = product;
+        this.asin = product.asin();
+        this.firstBuyingOption = product.buyingOptions().stream().findFirst();
+
+        final List<ProductImagesV2.Image> images = product.productImages()
+                .map(ProductImagesV2::images)
+                .orElse(null);
+        final int imageCount = images == null ? 0 : images.size();
+        imageVariants = ImageVariantIndex.of(images);
+        imageWidths = new int[imageCount];
+        imageHeights = new int[imageCount];
+        for (int i : imageVariants.positionsWithVariantView()) {
+            final StyledMedia lowRes = images.get(i).lowRes();
+            imageWidths[i] = lowRes.width();
+            imageHeights[i] = lowRes.height();
+        }
+
+        final List<ProductV2> candidates = product.getSimilarProducts();
+        hasSimilarProducts = candidates != null;
+        similarProducts = candidates == null
+                ? new ProductV2[0]
+                : candidates.stream().filter(Objects::nonNull).toArray(ProductV2[]::new);
+        final int similarCount = similarProducts.length;
+        similarPriceCents = new long[similarCount];
+        similarPriceFloorCents = new long[similarCount];
+        similarBenefitCents = new long[similarCount];
+        similarShippingMasks = new int[similarCount];
+        similarValid = new boolean[similarCount];
+        for (int i = 0; i < similarCount; i++) {
+            final ProductV2 similarProduct = similarProducts[i];
+            final BigDecimal price = similarProduct.getPrice();
+            final BigDecimal benefit = similarProduct.getTotalBenefitAmount();
+            similarValid[i] = price != null && similarProduct.isValid();
+            similarPriceCents[i] = price == null ? 0 : PriceCents.toCents(price);
+            similarPriceFloorCents[i] = price == null ? 0 : PriceCents.floorCents(price);
+            similarBenefitCents[i] = benefit == null ? 0 : PriceCents.toCents(benefit);
+            similarShippingMasks[i] = ShippingProgramMask.of(similarProduct.getShippingPrograms());
+        }
+    }
+
+    /**
+     * Takes a snapshot of a product.
+     *
+     * @param product the product
+     * @return the snapshot
+     */
+    public static ProductSnapshot of(final ProductV2 product) {
+        return new ProductSnapshot(product);
+    }
+
+    /**
+     * Returns a ProductPage whose queries all run over this snapshot.
+     *
+     * @return the page
+     */
+    public ProductPage productPage() {
+        return new SnapshotProductPage(this, null, ProductPageMetrics.NO_OP);
+    }
+
+    /**
+     * Returns a ProductPage whose queries all run over this snapshot, and that looks image URLs up in a shared cache.
+     *
+     * @param urlCache the image URL cache, or null to always build URLs
+     * @return the page
+     */
+    public ProductPage productPage(final StyledMediaUrlCache urlCache) {
+        return new SnapshotProductPage(this, urlCache, ProductPageMetrics.NO_OP);
+    }
+
+    /**
+     * Returns a ProductPage whose queries all run over this snapshot, and that reports the latency of each method to a
+     * metrics sink.
+     *
+     * @param urlCache the image URL cache, or null to always build URLs
+     * @param metrics the sink, ProductPageMetrics.NO_OP to measure nothing
+     * @return the page
+     */
+    public ProductPage productPage(final StyledMediaUrlCache urlCache, final ProductPageMetrics metrics) {
+        return new SnapshotProductPage(this, urlCache, metrics);
+    }
+
+    public ProductV2 getProduct() {
+        return product;
+    }
+
+    public String getAsin() {
+        return asin;
+    }
+
+    Optional<ProductV2.BuyingOption> firstBuyingOption() {
+        return firstBuyingOption;
+    }
+
+    int imageCount() {
+        return imageWidths.length;
+    }
+
+    ImageVariantIndex imageVariants() {
+        return imageVariants;
+    }
+
+    int imageWidth(final int image) {
+        return imageWidths[image];
+    }
+
+    int imageHeight(final int image) {
+        return imageHeights[image];
+    }
+
+    boolean hasSimilarProducts() {
+        return hasSimilarProducts;
+    }
+
+    int similarProductCount() {
+        return similarProducts.length;
+    }
+
+    ProductV2 similarProduct(final int position) {
+        return similarProducts[position];
+    }
+
+    long similarPriceCents(final int position) {
+        return similarPriceCents[position];
+    }
+
+    long similarPriceFloorCents(final int position) {
+        return similarPriceFloorCents[position];
+    }
+
+    long similarBenefitCents(final int position) {
+        return similarBenefitCents[position];
+    }
+
+    int similarShippingMask(final int position) {
+        return similarShippingMasks[position];
+    }
+
+    boolean similarValid(final int position) {
+        return similarValid[position];
+    }
+}
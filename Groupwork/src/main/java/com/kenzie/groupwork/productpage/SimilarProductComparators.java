@@ -0,0 +1,46 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.kenzie.groupwork.productpage.types.SortByEnum.PRICE_HIGH_TO_LOW;
+import static com.kenzie.groupwork.productpage.types.SortByEnum.PRICE_LOW_TO_HIGH;
+import static com.kenzie.groupwork.productpage.types.SortByEnum.REWARD_HIGH_TO_LOW;
+import static com.kenzie.groupwork.productpage.types.SortByEnum.REWARD_LOW_TO_HIGH;
+
+/**
+ * The similar product orderings shared by {@link ProductPage} and {@link SimilarProductsEngine}.
+ */
+final class SimilarProductComparators {
+
+    private SimilarProductComparators() {
+    }
+
+    /**
+     * Returns a Comparator that does not change order.
+     * @param <T> The type of item this Comparator will compare.
+     * @return a Comparator that does not change order.
+     */
+    static <T> Comparator<T> passthroughComparator() {
+        return Comparator.comparing(other -> 0);
+    }
+
+    /**
+     * Creates the comparator for every sorted SortByEnum. RELEVANCE has no entry, callers fall back to
+     * {@link #passthroughComparator()} to keep the original order.
+     *
+     * @return map of sort option to comparator.
+     */
+    static Map<SortByEnum, Comparator<ProductV2>> createSortComparatorMap() {
+        Map<SortByEnum, Comparator<ProductV2>> comparatorMap = new EnumMap<>(SortByEnum.class);
+        comparatorMap.put(REWARD_LOW_TO_HIGH, Comparator.comparing(ProductV2::getTotalBenefitAmount));
+        comparatorMap.put(REWARD_HIGH_TO_LOW, Comparator.comparing(ProductV2::getTotalBenefitAmount).reversed());
+        comparatorMap.put(PRICE_LOW_TO_HIGH, Comparator.comparing(ProductV2::getPrice));
+        comparatorMap.put(PRICE_HIGH_TO_LOW, Comparator.comparing(ProductV2::getPrice).reversed());
+        return comparatorMap;
+    }
+}
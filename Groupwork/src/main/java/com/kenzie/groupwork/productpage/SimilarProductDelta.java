@@ -0,0 +1,118 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A change to one similar product's catalog data, applied to {@link IncrementalSimilarProducts} views.
+ */
+public final class SimilarProductDelta {
+
+    /**
+     * What changed.
+     */
+    public enum Kind {
+        PRICE,
+        SHIPPING_PROGRAMS,
+        VALIDITY
+    }
+
+    private final Kind kind;
+    private final String asin;
+    private final BigDecimal price;
+    private final List<ShippingProgramEnum> shippingPrograms;
+    private final boolean valid;
+
+    private SimilarProductDelta(final Kind kind, final String asin, final BigDecimal price,
+                                final List<ShippingProgramEnum> shippingPrograms, final boolean valid) {
+        if (asin == null) {
+            throw new IllegalArgumentException("asin must not be null");
+        }
+        this.kind = kind;
+        this.asin = asin;
+        this.price = price;
+        this.shippingPrograms = shippingPrograms;
+        this.valid = valid;
+    }
+
+    /**
+     * The product's price changed.
+     *
+     * @param asin the product
+     * @param price the new price
+     * @return the delta
+     */
+    public static SimilarProductDelta priceChanged(final String asin, final BigDecimal price) {
+        return new SimilarProductDelta(Kind.PRICE, asin, price, null, false);
+    }
+
+    /**
+     * The programs the product ships with changed.
+     *
+     * @param asin the product
+     * @param shippingPrograms the new programs, copied
+     * @return the delta
+     */
+    public static SimilarProductDelta shippingProgramsChanged(final String asin,
+                                                              final List<ShippingProgramEnum> shippingPrograms) {
+        final List<ShippingProgramEnum> programs = shippingPrograms == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(shippingPrograms));
+        return new SimilarProductDelta(Kind.SHIPPING_PROGRAMS, asin, null, programs, false);
+    }
+
+    /**
+     * The product became valid or invalid.
+     *
+     * @param asin the product
+     * @param valid the new validity
+     * @return the delta
+     */
+    public static SimilarProductDelta validityChanged(final String asin, final boolean valid) {
+        return new SimilarProductDelta(Kind.VALIDITY, asin, null, null, valid);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getAsin() {
+        return asin;
+    }
+
+    /**
+     * Returns the new price of a PRICE delta.
+     *
+     * @return the price, null for other kinds
+     */
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    /**
+     * Returns the new programs of a SHIPPING_PROGRAMS delta.
+     *
+     * @return the programs, null for other kinds
+     */
+    public List<ShippingProgramEnum> getShippingPrograms() {
+        return shippingPrograms;
+    }
+
+    /**
+     * Returns the new validity of a VALIDITY delta.
+     *
+     * @return the validity, false for other kinds
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + asin;
+    }
+}
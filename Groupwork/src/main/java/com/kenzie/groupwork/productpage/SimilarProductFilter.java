@@ -0,0 +1,80 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.ShippingProgramMask;
+
+/**
+ * The similar products filter: a candidate matches when it is non-null, valid, priced within the range and ships
+ * with at least one program accepted by the prime filter.
+ *
+ * The PrimeOption is resolved into a {@link ShippingProgramMask} once, so matching a candidate does not call back
+ * into the option: the shipping check is an AND of the option's mask and the candidate's. It runs before the
+ * BigDecimal price comparison, the most expensive check.
+ */
+final class SimilarProductFilter {
+
+    private final PriceRangeOption priceRange;
+    private final int acceptedMask;
+
+    private SimilarProductFilter(final PriceRangeOption priceRange, final int acceptedMask) {
+        this.priceRange = priceRange;
+        this.acceptedMask = acceptedMask;
+    }
+
+    /**
+     * Creates a filter.
+     *
+     * @param priceRange price range filter, or null if the candidates are already within the range
+     * @param primeOption prime filter
+     * @return the filter
+     */
+    static SimilarProductFilter of(final PriceRangeOption priceRange, final PrimeOption primeOption) {
+        return of(priceRange, acceptedMask(primeOption));
+    }
+
+    /**
+     * Creates a filter from an already resolved prime filter.
+     *
+     * @param priceRange price range filter, or null if the candidates are already within the range
+     * @param acceptedMask the shipping programs the prime filter accepts
+     * @return the filter
+     */
+    static SimilarProductFilter of(final PriceRangeOption priceRange, final int acceptedMask) {
+        return new SimilarProductFilter(priceRange, acceptedMask);
+    }
+
+    /**
+     * Resolves the programs a prime filter accepts into a {@link ShippingProgramMask}.
+     *
+     * Asks matches() rather than reading the option's mask, so PrimeOption subclasses keep working.
+     *
+     * @param primeOption prime filter
+     * @return the accepted programs
+     */
+    static int acceptedMask(final PrimeOption primeOption) {
+        int accepted = ShippingProgramMask.NONE;
+        for (ShippingProgramEnum program : ShippingProgramEnum.values()) {
+            if (primeOption.matches(program)) {
+                accepted |= ShippingProgramMask.of(program);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Checks a candidate against the filter.
+     *
+     * @param candidate the product to check, may be null
+     * @return true if the candidate matches
+     */
+    boolean matches(final ProductV2 candidate) {
+        return candidate != null
+                && candidate.isValid()
+                && ShippingProgramMask.intersects(acceptedMask,
+                        ShippingProgramMask.of(candidate.getShippingPrograms()))
+                && (priceRange == null || priceRange.priceIsWithin(candidate.getPrice()));
+    }
+}
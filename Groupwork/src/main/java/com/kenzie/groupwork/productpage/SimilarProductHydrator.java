@@ -0,0 +1,139 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Prefetches the attributes the similar products filter and sort read, for every candidate at once.
+ *
+ * When each product is a remote-backed view, reading the ASIN, price, reward, shipping programs and validity of one
+ * candidate after another adds up every round trip. The hydrator reads each candidate on the executor, at most
+ * {@code maxConcurrency} at a time, and returns products that answer from the prefetched values:
+ * <pre>
+ *   List&lt;ProductV2&gt; candidates = hydrator.hydrate(product.getSimilarProducts());
+ *   List&lt;ProductV2&gt; similarProducts = engine.findMatches(candidates, sortBy, priceRange, primeOption);
+ * </pre>
+ * A candidate that cannot be read within the timeout, or whose reads throw, is left out, so one slow candidate
+ * costs at most one timeout instead of failing or stalling the page. The timeout starts once the candidate has a
+ * slot, and a read that times out is cancelled with an interrupt so its slot goes to the next candidate. The whole
+ * call is bounded too: candidates still unread after one timeout per wave of {@code maxConcurrency} candidates are
+ * cancelled and left out, so reads that ignore interrupts and keep their slots cannot stall it.
+ *
+ * Every candidate is submitted at once and waits for its slot on the executor, so the calling thread only waits
+ * for the results. On JDK 21+ a virtual thread per task executor
+ * ({@code Executors.newVirtualThreadPerTaskExecutor()}) suits blocking remote reads best; on older JDKs use a
+ * fixed pool at least {@code maxConcurrency} threads large.
+ */
+public class SimilarProductHydrator {
+
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+    private final long timeoutNanos;
+
+    /**
+     * Creates a hydrator.
+     *
+     * @param executor runs the reads of each candidate
+     * @param maxConcurrency the most candidates read at the same time
+     * @param timeout how long the reads of one candidate may take
+     */
+    public SimilarProductHydrator(final ExecutorService executor, final int maxConcurrency, final Duration timeout) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be a positive number, got: " + maxConcurrency);
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive, got: " + timeout);
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * Reads the filter and sort attributes of every candidate.
+     *
+     * @param candidates the products to read, may contain nulls
+     * @return the hydrated candidates in their original order, nulls kept, failed and timed out candidates left out;
+     *         if the calling thread is interrupted, only the candidates read until then
+     */
+    public List<ProductV2> hydrate(final List<ProductV2> candidates) {
+        final Semaphore slots = new Semaphore(maxConcurrency);
+        final long waves = (candidates.size() + maxConcurrency - 1) / maxConcurrency;
+        final long deadline = System.nanoTime() + waves * timeoutNanos;
+        final List<CompletableFuture<HydratedProduct>> reads = new ArrayList<>(candidates.size());
+        for (ProductV2 candidate : candidates) {
+            reads.add(candidate == null ? CompletableFuture.completedFuture(null) : read(candidate, slots, deadline));
+        }
+
+        final List<ProductV2> hydrated = new ArrayList<>(candidates.size());
+        for (CompletableFuture<HydratedProduct> read : reads) {
+            try {
+                hydrated.add(read.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // Past the deadline: cancel the read and leave the candidate out.
+                read.completeExceptionally(e);
+            } catch (ExecutionException e) {
+                // Timed out or failed: leave the candidate out.
+            } catch (InterruptedException e) {
+                // Interrupted: cancel the remaining reads and leave their candidates out.
+                Thread.currentThread().interrupt();
+                reads.forEach(unread -> unread.cancel(true));
+                break;
+            }
+        }
+        return hydrated;
+    }
+
+    /**
+     * Submits the reads of one candidate. Completing the returned future early, e.g. by its timeout, cancels them.
+     */
+    private CompletableFuture<HydratedProduct> read(final ProductV2 candidate, final Semaphore slots,
+                                                    final long deadline) {
+        final CompletableFuture<HydratedProduct> read = new CompletableFuture<>();
+        final Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    if (!slots.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                        read.completeExceptionally(new IllegalStateException("No free slot before the deadline"));
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    read.completeExceptionally(e);
+                    return;
+                }
+
+                try {
+                    if (!read.isDone()) {
+                        read.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS);
+                        read.complete(HydratedProduct.of(candidate));
+                    }
+                } catch (Throwable e) {
+                    read.completeExceptionally(e);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            read.completeExceptionally(e);
+            return read;
+        }
+        read.whenComplete((hydrated, failure) -> {
+            if (failure != null) {
+                task.cancel(true);
+            }
+        });
+        return read;
+    }
+}
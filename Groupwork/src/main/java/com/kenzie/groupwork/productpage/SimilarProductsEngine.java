@@ -0,0 +1,180 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Filters and sorts similar products in a single pass over the candidates.
+ *
+ * Produces the same products as {@link ProductPage#getSimilarProducts(SortByEnum, PriceRangeOption, PrimeOption)},
+ * but deduplicates by ASIN with a hash set instead of scanning the matching list, and resolves the PrimeOption
+ * into a bitmask once per call so each shipping program check is a single AND (see {@link SimilarProductFilter}).
+ *
+ * Filtering is sequential unless a parallel threshold is given: candidate lists at least that long are then filtered
+ * on a fork/join pool (see {@link ParallelSimilarProductFilter}), with the same result as the sequential path.
+ */
+public class SimilarProductsEngine {
+
+    /**
+     * A candidate list size above which parallel filtering usually pays for its task overhead.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20_000;
+
+    /**
+     * How many candidates one parallel filter task checks.
+     */
+    static final int PARALLEL_CHUNK_SIZE = 2_048;
+
+    private final Map<SortByEnum, Comparator<ProductV2>> comparatorForSortBy =
+            SimilarProductComparators.createSortComparatorMap();
+
+    private final SimilarProductsSortMode sortMode;
+    private final int parallelThreshold;
+    private final ParallelSimilarProductFilter parallelFilter;
+
+    /**
+     * Creates an engine that filters sequentially and sorts with the BigDecimal comparators.
+     */
+    public SimilarProductsEngine() {
+        this(SimilarProductsSortMode.COMPARATOR);
+    }
+
+    /**
+     * Creates an engine that filters sequentially.
+     *
+     * @param sortMode how to sort the matching products
+     */
+    public SimilarProductsEngine(final SimilarProductsSortMode sortMode) {
+        this(sortMode, Integer.MAX_VALUE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an engine that filters large candidate lists on the common fork/join pool.
+     *
+     * @param sortMode how to sort the matching products
+     * @param parallelThreshold the smallest candidate list filtered in parallel, e.g. DEFAULT_PARALLEL_THRESHOLD
+     */
+    public SimilarProductsEngine(final SimilarProductsSortMode sortMode, final int parallelThreshold) {
+        this(sortMode, parallelThreshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an engine that filters large candidate lists on the given fork/join pool.
+     *
+     * @param sortMode how to sort the matching products
+     * @param parallelThreshold the smallest candidate list filtered in parallel
+     * @param pool the pool to filter on
+     */
+    public SimilarProductsEngine(final SimilarProductsSortMode sortMode,
+                                 final int parallelThreshold,
+                                 final ForkJoinPool pool) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold must be positive, was " + parallelThreshold);
+        }
+        this.sortMode = sortMode;
+        this.parallelThreshold = parallelThreshold;
+        this.parallelFilter = new ParallelSimilarProductFilter(pool, PARALLEL_CHUNK_SIZE);
+    }
+
+    /**
+     * Get the similar products of a product that match the filters, in sorted order.
+     *
+     * @param product the product whose similar products are filtered
+     * @param sortBy sort by parameter
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @return list of matching products, empty if the product has no similar products
+     */
+    public List<ProductV2> getSimilarProducts(final ProductV2 product,
+                                              final SortByEnum sortBy,
+                                              final PriceRangeOption priceRange,
+                                              final PrimeOption primeOption) {
+        final List<ProductV2> candidates = product.getSimilarProducts();
+        if (candidates == null) {
+            return new ArrayList<>();
+        }
+        return findMatches(candidates, sortBy, priceRange, primeOption);
+    }
+
+    /**
+     * Filters the candidates and sorts the result.
+     *
+     * A candidate matches when it is non-null, valid, priced within the range and ships with at least one program
+     * accepted by the prime filter. Only the first candidate for each ASIN is kept.
+     *
+     * @param candidates the products to filter
+     * @param sortBy sort by parameter, RELEVANCE keeps the candidate order
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @return list of matching products
+     */
+    public List<ProductV2> findMatches(final List<ProductV2> candidates,
+                                       final SortByEnum sortBy,
+                                       final PriceRangeOption priceRange,
+                                       final PrimeOption primeOption) {
+        return sort(filter(candidates, priceRange, primeOption), sortBy);
+    }
+
+    /**
+     * Filters the candidates of a price index and sorts the result.
+     *
+     * The price filter is a bucket lookup, only the validity and shipping checks run per product.
+     *
+     * @param priceIndex the similar products, bucketed by price
+     * @param sortBy sort by parameter, RELEVANCE keeps the candidate order
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @return list of matching products
+     */
+    public List<ProductV2> findMatches(final PriceBucketIndex priceIndex,
+                                       final SortByEnum sortBy,
+                                       final PriceRangeOption priceRange,
+                                       final PrimeOption primeOption) {
+        return sort(filter(priceIndex.productsWithin(priceRange), null, primeOption), sortBy);
+    }
+
+    /**
+     * Keeps the candidates that match the filters.
+     *
+     * @param candidates the products to filter
+     * @param priceRange price range filter, or null if the candidates are already within the range
+     * @param primeOption prime filter
+     * @return the matching products, in candidate order
+     */
+    private List<ProductV2> filter(final List<ProductV2> candidates,
+                                   final PriceRangeOption priceRange,
+                                   final PrimeOption primeOption) {
+        final SimilarProductFilter filter = SimilarProductFilter.of(priceRange, primeOption);
+        if (candidates.size() >= parallelThreshold) {
+            return parallelFilter.filter(candidates, filter);
+        }
+        final UniqueAsins uniqueAsins = new UniqueAsins();
+        final List<ProductV2> matchingProducts = new ArrayList<>();
+
+        for (ProductV2 candidate : candidates) {
+            if (filter.matches(candidate) && uniqueAsins.add(candidate)) {
+                matchingProducts.add(candidate);
+            }
+        }
+        return matchingProducts;
+    }
+
+    private List<ProductV2> sort(final List<ProductV2> matchingProducts, final SortByEnum sortBy) {
+        if (sortMode == SimilarProductsSortMode.PRIMITIVE_KEYS) {
+            return PrimitiveKeySorter.sort(matchingProducts, sortBy);
+        }
+        final Comparator<ProductV2> comparator = comparatorForSortBy.get(sortBy);
+        if (comparator != null) {
+            matchingProducts.sort(comparator);
+        }
+        return matchingProducts;
+    }
+}
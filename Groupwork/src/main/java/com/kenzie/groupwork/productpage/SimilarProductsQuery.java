@@ -0,0 +1,121 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramMask;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.kenzie.groupwork.productpage.SimilarProductComparators.passthroughComparator;
+
+/**
+ * A similar products query compiled once from its sort and filter options, then applied to any number of candidate
+ * lists, from any number of threads.
+ *
+ * Compiling resolves the comparator and turns the PrimeOption into a {@link ShippingProgramMask}; candidates are
+ * checked by the same {@link SimilarProductFilter} the engine uses. A query whose prime filter accepts no program
+ * matches nothing without looking at the candidates.
+ *
+ * Applying a query returns the same products, in the same order, as {@link SimilarProductsEngine}: duplicates are
+ * dropped by ASIN (see {@link UniqueAsins}), the first one kept, and ties keep their candidate order. Use
+ * {@link SimilarProductsQueryCache} to share the queries of popular filter combinations.
+ */
+public final class SimilarProductsQuery {
+
+    private final SortByEnum sortBy;
+    private final PriceRangeOption priceRange;
+    private final int acceptedMask;
+    private final SimilarProductFilter filter;
+    private final Comparator<ProductV2> comparator;
+
+    private SimilarProductsQuery(final SortByEnum sortBy, final PriceRangeOption priceRange, final int acceptedMask) {
+        this.sortBy = sortBy;
+        this.priceRange = priceRange;
+        this.acceptedMask = acceptedMask;
+        this.filter = SimilarProductFilter.of(priceRange, acceptedMask);
+        this.comparator = SimilarProductComparators.createSortComparatorMap()
+                .getOrDefault(sortBy, passthroughComparator());
+    }
+
+    /**
+     * Compiles a query.
+     *
+     * @param sortBy sort by parameter
+     * @param priceRange price range filter
+     * @param primeOption prime filter, only asked which programs it matches while compiling
+     * @return the query
+     */
+    public static SimilarProductsQuery compile(final SortByEnum sortBy,
+                                               final PriceRangeOption priceRange,
+                                               final PrimeOption primeOption) {
+        return compile(sortBy, priceRange, SimilarProductFilter.acceptedMask(primeOption));
+    }
+
+    /**
+     * Compiles a query from an already resolved prime filter.
+     *
+     * @param sortBy sort by parameter
+     * @param priceRange price range filter
+     * @param acceptedMask the shipping programs the prime filter accepts
+     * @return the query
+     */
+    static SimilarProductsQuery compile(final SortByEnum sortBy,
+                                        final PriceRangeOption priceRange,
+                                        final int acceptedMask) {
+        return new SimilarProductsQuery(sortBy, priceRange, acceptedMask);
+    }
+
+    public SortByEnum getSortBy() {
+        return sortBy;
+    }
+
+    public PriceRangeOption getPriceRange() {
+        return priceRange;
+    }
+
+    /**
+     * Returns the shipping programs the prime filter accepts.
+     *
+     * @return a {@link ShippingProgramMask}
+     */
+    public int getAcceptedShippingMask() {
+        return acceptedMask;
+    }
+
+    /**
+     * Filters and sorts candidates.
+     *
+     * @param candidates the similar products, may be null or contain nulls
+     * @return a new list of the matching products, in sorted order
+     */
+    public List<ProductV2> apply(final List<ProductV2> candidates) {
+        if (candidates == null || acceptedMask == ShippingProgramMask.NONE) {
+            return new ArrayList<>();
+        }
+        final UniqueAsins uniqueAsins = new UniqueAsins();
+        final List<ProductV2> matchingProducts = new ArrayList<>();
+        for (ProductV2 candidate : candidates) {
+            if (filter.matches(candidate) && uniqueAsins.add(candidate)) {
+                matchingProducts.add(candidate);
+            }
+        }
+        if (matchingProducts.size() > 1) {
+            matchingProducts.sort(comparator);
+        }
+        return matchingProducts;
+    }
+
+    /**
+     * Checks a candidate against the filters.
+     *
+     * @param candidate the product to check, may be null
+     * @return true if the candidate matches
+     */
+    public boolean matches(final ProductV2 candidate) {
+        return filter.matches(candidate);
+    }
+}
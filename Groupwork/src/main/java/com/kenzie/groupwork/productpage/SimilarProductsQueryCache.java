@@ -0,0 +1,116 @@
+package com.kenzie.groupwork.productpage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A small, thread-safe cache of {@link SimilarProductsQuery}s, shared by every page so the popular sort and filter
+ * combinations are only compiled once.
+ *
+ * Queries are keyed by sort, price range value and the shipping programs the prime filter accepts, so two
+ * PrimeOptions accepting the same programs share a query. Price ranges of a PriceRangeOption subclass may not
+ * behave like their value, so their queries are compiled every time instead of being cached.
+ */
+public class SimilarProductsQueryCache {
+
+    /**
+     * Enough for every sort and price range with a handful of prime filters.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final Cache<Key, SimilarProductsQuery> cache;
+
+    /**
+     * Creates a cache holding up to {@link #DEFAULT_MAXIMUM_SIZE} queries.
+     */
+    public SimilarProductsQueryCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a cache holding up to maximumSize queries.
+     *
+     * @param maximumSize the maximum number of queries to keep.
+     */
+    public SimilarProductsQueryCache(final long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be a positive number, got: " + maximumSize);
+        }
+        cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the compiled query for the options, compiling it only if it is not cached.
+     *
+     * @param sortBy sort by parameter
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @return the query
+     */
+    public SimilarProductsQuery query(final SortByEnum sortBy,
+                                      final PriceRangeOption priceRange,
+                                      final PrimeOption primeOption) {
+        final int acceptedMask = SimilarProductFilter.acceptedMask(primeOption);
+        if (priceRange.getClass() != PriceRangeOption.class || priceRange.getValue() == null) {
+            return SimilarProductsQuery.compile(sortBy, priceRange, acceptedMask);
+        }
+        final Key key = new Key(sortBy, priceRange.getValue(), acceptedMask);
+        try {
+            return cache.get(key, () -> SimilarProductsQuery.compile(sortBy, priceRange, acceptedMask));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not compile similar products query", e.getCause());
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counts since this cache was created.
+     *
+     * @return a snapshot of the cache statistics.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * The options a query is compiled from.
+     */
+    private static final class Key {
+        private final SortByEnum sortBy;
+        private final PriceRangeEnum priceRange;
+        private final int acceptedMask;
+
+        Key(final SortByEnum sortBy, final PriceRangeEnum priceRange, final int acceptedMask) {
+            this.sortBy = sortBy;
+            this.priceRange = priceRange;
+            this.acceptedMask = acceptedMask;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return sortBy == key.sortBy && priceRange == key.priceRange && acceptedMask == key.acceptedMask;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sortBy, priceRange, acceptedMask);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.kenzie.groupwork.productpage;
+
+/**
+ * How {@link SimilarProductsEngine} sorts the matching products.
+ */
+public enum SimilarProductsSortMode {
+    /**
+     * Sorts with the BigDecimal comparators, exactly like ProductPage.
+     */
+    COMPARATOR,
+    /**
+     * Reads each product's price or reward once into a long[] of cents and sorts by that, see
+     * {@link PrimitiveKeySorter}. Faster on large lists; amounts less than a cent apart sort as ties.
+     */
+    PRIMITIVE_KEYS
+}
@@ -0,0 +1,171 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.metrics.ProductPageMetrics;
+import com.kenzie.groupwork.productpage.metrics.ProductPageOperation;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramMask;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A ProductPage that answers every query from a {@link ProductSnapshot} instead of the product.
+ *
+ * The results are those of ProductPage, except that prices and rewards compare in whole cents. Only latencies are
+ * measured: the snapshot's filter is not split into stages. A compiled {@link SimilarProductsQuery} is evaluated
+ * against the snapshot too, dropping duplicates by ASIN as the query does.
+ */
+final class SnapshotProductPage extends ProductPage {
+
+    private final ProductSnapshot snapshot;
+
+    SnapshotProductPage(final ProductSnapshot snapshot, final StyledMediaUrlCache urlCache,
+                        final ProductPageMetrics metrics) {
+        super(snapshot.getProduct(), urlCache, metrics);
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public Optional<ProductV2.BuyingOption> getFirstBuyingOption() {
+        final long start = startTimer();
+        final Optional<ProductV2.BuyingOption> buyingOption = snapshot.firstBuyingOption();
+        stopTimer(ProductPageOperation.GET_FIRST_BUYING_OPTION, start);
+        return buyingOption;
+    }
+
+    @Override
+    public Optional<String> extractMainImageUrl(final Integer longestDimension) {
+        final long start = startTimer();
+        final Optional<String> imageUrl =
+                firstImageUrl(snapshot.imageVariants().positionsWithVariantView(), longestDimension);
+        stopTimer(ProductPageOperation.EXTRACT_MAIN_IMAGE_URL, start);
+        return imageUrl;
+    }
+
+    @Override
+    public Optional<String> extractLookImageUrl(final Integer longestDimension) {
+        final long start = startTimer();
+        final Optional<String> imageUrl =
+                firstImageUrl(snapshot.imageVariants().lookPositionsView(), longestDimension);
+        stopTimer(ProductPageOperation.EXTRACT_LOOK_IMAGE_URL, start);
+        return imageUrl;
+    }
+
+    @Override
+    public List<ProductV2> getSimilarProducts(final SortByEnum sortBy,
+                                              final PriceRangeOption priceRange,
+                                              final PrimeOption primeOption) {
+        final long start = startTimer();
+        final List<ProductV2> similarProducts = sortedMatches(sortBy, priceRange,
+                SimilarProductFilter.acceptedMask(primeOption), new HashSet<ProductV2>()::add, Integer.MAX_VALUE);
+        stopTimer(ProductPageOperation.GET_SIMILAR_PRODUCTS, start);
+        return similarProducts;
+    }
+
+    @Override
+    public List<ProductV2> getSimilarProducts(final SortByEnum sortBy,
+                                              final PriceRangeOption priceRange,
+                                              final PrimeOption primeOption,
+                                              final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be >= 0, got: " + limit);
+        }
+        final long start = startTimer();
+        final List<ProductV2> similarProducts = sortedMatches(sortBy, priceRange,
+                SimilarProductFilter.acceptedMask(primeOption), new HashSet<ProductV2>()::add, limit);
+        stopTimer(ProductPageOperation.GET_SIMILAR_PRODUCTS, start);
+        return similarProducts;
+    }
+
+    @Override
+    public List<ProductV2> getSimilarProducts(final SimilarProductsQuery query) {
+        final long start = startTimer();
+        final List<ProductV2> similarProducts = sortedMatches(query.getSortBy(), query.getPriceRange(),
+                query.getAcceptedShippingMask(), new UniqueAsins()::add, Integer.MAX_VALUE);
+        stopTimer(ProductPageOperation.GET_SIMILAR_PRODUCTS, start);
+        return similarProducts;
+    }
+
+    private List<ProductV2> sortedMatches(final SortByEnum sortBy,
+                                          final PriceRangeOption priceRange,
+                                          final int acceptedMask,
+                                          final Predicate<ProductV2> firstSeen,
+                                          final int limit) {
+        final int[] matches = matchingPositions(priceRange, acceptedMask, firstSeen);
+        final long[] keys = sortKeys(matches, sortBy);
+        final int[] order = keys == null ? null : PrimitiveKeySorter.sortPositions(keys, isDescending(sortBy));
+
+        final int size = Math.min(limit, matches.length);
+        final List<ProductV2> similarProducts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            similarProducts.add(snapshot.similarProduct(matches[order == null ? i : order[i]]));
+        }
+        return similarProducts;
+    }
+
+    /**
+     * Returns the positions of the valid similar products that match the filters, in their original order. A match
+     * is kept only if {@code firstSeen} accepts its product, which drops the duplicates.
+     */
+    private int[] matchingPositions(final PriceRangeOption priceRange,
+                                    final int acceptedMask,
+                                    final Predicate<ProductV2> firstSeen) {
+        final int[] matches = new int[snapshot.similarProductCount()];
+        int count = 0;
+        for (int position = 0; position < snapshot.similarProductCount(); position++) {
+            if (snapshot.similarValid(position)
+                    && priceRange.priceIsWithinCents(snapshot.similarPriceFloorCents(position),
+                            snapshot.similarPriceCents(position))
+                    && ShippingProgramMask.intersects(acceptedMask, snapshot.similarShippingMask(position))
+                    && firstSeen.test(snapshot.similarProduct(position))) {
+                matches[count++] = position;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Returns the sort key of each match, or null to keep the original order.
+     */
+    private long[] sortKeys(final int[] matches, final SortByEnum sortBy) {
+        if (sortBy == null || sortBy == SortByEnum.RELEVANCE) {
+            return null;
+        }
+        final boolean byPrice = sortBy == SortByEnum.PRICE_LOW_TO_HIGH || sortBy == SortByEnum.PRICE_HIGH_TO_LOW;
+        final long[] keys = new long[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            keys[i] = byPrice
+                    ? snapshot.similarPriceCents(matches[i])
+                    : snapshot.similarBenefitCents(matches[i]);
+        }
+        return keys;
+    }
+
+    private static boolean isDescending(final SortByEnum sortBy) {
+        return sortBy == SortByEnum.PRICE_HIGH_TO_LOW || sortBy == SortByEnum.REWARD_HIGH_TO_LOW;
+    }
+
+    private Optional<String> firstImageUrl(final int[] images, final Integer longestDimension) {
+        for (int image : images) {
+            final String url = imageUrl(image, longestDimension);
+            if (url != null) {
+                return Optional.of(url);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String imageUrl(final int image, final Integer longestDimension) {
+        return imageUrl(new StyledMedia.Builder(snapshot.imageWidth(image), snapshot.imageHeight(image))
+            .scaleToLongest(longestDimension));
+    }
+}
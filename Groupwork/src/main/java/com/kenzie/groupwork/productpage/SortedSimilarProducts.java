@@ -0,0 +1,193 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable, pre-sorted views of a ProductPage's similar products, one per {@link SortByEnum}.
+ *
+ * The first request for a sort key sorts the products once and keeps the result as a permutation (an int[] of list
+ * positions). Every later request for that key, and for its reversed HIGH_TO_LOW or LOW_TO_HIGH twin, only walks
+ * the permutation: O(n) with no comparator calls. The orders are the same as
+ * {@link ProductPage#getSimilarProducts(SortByEnum, PriceRangeOption, PrimeOption)}, including ties keeping their
+ * original order in both directions.
+ *
+ * The similar products list is copied when the views are created. Safe to share between threads.
+ */
+public final class SortedSimilarProducts {
+
+    private final ProductV2[] products;
+    private final Map<SortByEnum, Comparator<ProductV2>> comparatorForSortBy =
+            SimilarProductComparators.createSortComparatorMap();
+    private final AtomicReferenceArray<int[]> permutations =
+            new AtomicReferenceArray<>(SortByEnum.values().length);
+    private final AtomicReferenceArray<boolean[]> tiedWithPrevious =
+            new AtomicReferenceArray<>(SortByEnum.values().length);
+
+    private SortedSimilarProducts(final ProductV2[] products) {
+        this.products = products;
+    }
+
+    /**
+     * Creates the views of a page's similar products. Null products are left out.
+     *
+     * @param productPage the page
+     * @return the views, empty if the product has no similar products
+     */
+    public static SortedSimilarProducts of(final ProductPage productPage) {
+        final List<ProductV2> similarProducts = productPage.getProduct().getSimilarProducts();
+        if (similarProducts == null) {
+            return new SortedSimilarProducts(new ProductV2[0]);
+        }
+        return new SortedSimilarProducts(similarProducts.stream()
+                .filter(Objects::nonNull)
+                .toArray(ProductV2[]::new));
+    }
+
+    /**
+     * Returns every similar product in sort order.
+     *
+     * @param sortBy sort by parameter, RELEVANCE keeps the original order
+     * @return unmodifiable list backed by the cached permutation
+     */
+    public List<ProductV2> view(final SortByEnum sortBy) {
+        return new PermutedList(products, permutation(sortBy));
+    }
+
+    /**
+     * Returns the similar products that match the filters, in sort order.
+     *
+     * Same products as {@link SimilarProductsEngine}: each ASIN appears once, as its first matching copy in list
+     * order, whichever copy sorts first.
+     *
+     * @param sortBy sort by parameter, RELEVANCE keeps the original order
+     * @param priceRange price range filter
+     * @param primeOption prime filter
+     * @return list of matching products
+     */
+    public List<ProductV2> view(final SortByEnum sortBy,
+                                final PriceRangeOption priceRange,
+                                final PrimeOption primeOption) {
+        final SimilarProductFilter filter = SimilarProductFilter.of(priceRange, primeOption);
+        final UniqueAsins uniqueAsins = new UniqueAsins();
+        final boolean[] matches = new boolean[products.length];
+        int matchCount = 0;
+        for (int position = 0; position < products.length; position++) {
+            if (filter.matches(products[position]) && uniqueAsins.add(products[position])) {
+                matches[position] = true;
+                matchCount++;
+            }
+        }
+
+        final List<ProductV2> matchingProducts = new ArrayList<>(matchCount);
+        for (int position : permutation(sortBy)) {
+            if (matches[position]) {
+                matchingProducts.add(products[position]);
+            }
+        }
+        return matchingProducts;
+    }
+
+    private int[] permutation(final SortByEnum sortBy) {
+        final SortByEnum key = comparatorForSortBy.containsKey(sortBy) ? sortBy : SortByEnum.RELEVANCE;
+        int[] permutation = permutations.get(key.ordinal());
+        if (permutation == null) {
+            permutation = computePermutation(key);
+            permutations.compareAndSet(key.ordinal(), null, permutation);
+        }
+        return permutation;
+    }
+
+    private int[] computePermutation(final SortByEnum sortBy) {
+        switch (sortBy) {
+            case REWARD_LOW_TO_HIGH:
+            case PRICE_LOW_TO_HIGH:
+                return sort(sortBy);
+            case REWARD_HIGH_TO_LOW:
+                return reverse(SortByEnum.REWARD_LOW_TO_HIGH);
+            case PRICE_HIGH_TO_LOW:
+                return reverse(SortByEnum.PRICE_LOW_TO_HIGH);
+            default:
+                final int[] identity = new int[products.length];
+                Arrays.setAll(identity, position -> position);
+                return identity;
+        }
+    }
+
+    /**
+     * Stable sort of the list positions, remembering which neighbours compared equal so the reverse order can be
+     * derived without comparing again.
+     */
+    private int[] sort(final SortByEnum ascending) {
+        final Comparator<ProductV2> comparator = comparatorForSortBy.get(ascending);
+        final Integer[] order = new Integer[products.length];
+        Arrays.setAll(order, position -> position);
+        Arrays.sort(order, (left, right) -> comparator.compare(products[left], products[right]));
+
+        final int[] permutation = new int[order.length];
+        final boolean[] ties = new boolean[order.length];
+        for (int i = 0; i < order.length; i++) {
+            permutation[i] = order[i];
+            ties[i] = i > 0 && comparator.compare(products[order[i - 1]], products[order[i]]) == 0;
+        }
+        tiedWithPrevious.compareAndSet(ascending.ordinal(), null, ties);
+        return permutation;
+    }
+
+    /**
+     * Reverses an ascending permutation, keeping each run of ties in its original order like a stable sort would.
+     */
+    private int[] reverse(final SortByEnum ascending) {
+        final int[] forward = permutation(ascending);
+        final boolean[] ties = tiedWithPrevious.get(ascending.ordinal());
+        final int[] reversed = new int[forward.length];
+        int next = 0;
+        int runEnd = forward.length;
+        while (runEnd > 0) {
+            int runStart = runEnd - 1;
+            while (ties[runStart]) {
+                runStart--;
+            }
+            for (int i = runStart; i < runEnd; i++) {
+                reversed[next++] = forward[i];
+            }
+            runEnd = runStart;
+        }
+        return reversed;
+    }
+
+    /**
+     * An unmodifiable list that reads the products through a permutation.
+     */
+    private static final class PermutedList extends AbstractList<ProductV2> implements RandomAccess {
+        private final ProductV2[] products;
+        private final int[] permutation;
+
+        PermutedList(final ProductV2[] products, final int[] permutation) {
+            this.products = products;
+            this.permutation = permutation;
+        }
+
+        @Override
+        public ProductV2 get(final int index) {
+            return products[permutation[index]];
+        }
+
+        @Override
+        public int size() {
+            return permutation.length;
+        }
+    }
+}
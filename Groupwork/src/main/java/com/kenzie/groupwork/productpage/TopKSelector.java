@@ -0,0 +1,130 @@
+package com.kenzie.groupwork.productpage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Selects the first k items of a list in sorted order without sorting the whole list.
+ *
+ * Keeps the best k items seen so far in a bounded max-heap, which is O(n log k). Ties are broken by list position,
+ * so the result is exactly the first k items of a stable sort ({@link List#sort(Comparator)}).
+ */
+final class TopKSelector {
+
+    private TopKSelector() {
+    }
+
+    /**
+     * Returns the first {@code limit} items of {@code items} sorted by {@code comparator}.
+     *
+     * @param items the items to select from, should support fast random access
+     * @param comparator the sort order
+     * @param limit the maximum number of items to return
+     * @param <T> the type of the items
+     * @return a new list with at most {@code limit} items, in sorted order
+     */
+    static <T> List<T> select(final List<T> items, final Comparator<? super T> comparator, final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be >= 0, got: " + limit);
+        }
+        if (limit >= items.size()) {
+            final List<T> sorted = new ArrayList<>(items);
+            sorted.sort(comparator);
+            return sorted;
+        }
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+
+        final Heap<T> heap = new Heap<>(items, comparator, limit);
+        for (int i = 0; i < limit; i++) {
+            heap.add(i);
+        }
+        for (int i = limit; i < items.size(); i++) {
+            heap.offer(i);
+        }
+        return heap.drainSorted();
+    }
+
+    /**
+     * A max-heap of list positions: the root is the worst item kept so far.
+     */
+    private static final class Heap<T> {
+        private final List<T> items;
+        private final Comparator<? super T> comparator;
+        private final int[] positions;
+        private int size;
+
+        Heap(final List<T> items, final Comparator<? super T> comparator, final int capacity) {
+            this.items = items;
+            this.comparator = comparator;
+            this.positions = new int[capacity];
+        }
+
+        void add(final int position) {
+            positions[size] = position;
+            siftUp(size);
+            size++;
+        }
+
+        void offer(final int position) {
+            if (compare(position, positions[0]) < 0) {
+                positions[0] = position;
+                siftDown(0, size);
+            }
+        }
+
+        List<T> drainSorted() {
+            // Heap sort: repeatedly move the worst remaining item to the end.
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            final List<T> sorted = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sorted.add(items.get(positions[i]));
+            }
+            return sorted;
+        }
+
+        private void siftUp(final int index) {
+            int child = index;
+            while (child > 0) {
+                final int parent = (child - 1) >>> 1;
+                if (compare(positions[child], positions[parent]) <= 0) {
+                    return;
+                }
+                swap(child, parent);
+                child = parent;
+            }
+        }
+
+        private void siftDown(final int index, final int end) {
+            int parent = index;
+            int child = 2 * parent + 1;
+            while (child < end) {
+                if (child + 1 < end && compare(positions[child + 1], positions[child]) > 0) {
+                    child++;
+                }
+                if (compare(positions[child], positions[parent]) <= 0) {
+                    return;
+                }
+                swap(child, parent);
+                parent = child;
+                child = 2 * parent + 1;
+            }
+        }
+
+        private int compare(final int left, final int right) {
+            final int result = comparator.compare(items.get(left), items.get(right));
+            return result != 0 ? result : Integer.compare(left, right);
+        }
+
+        private void swap(final int left, final int right) {
+            final int position = positions[left];
+            positions[left] = positions[right];
+            positions[right] = position;
+        }
+    }
+}
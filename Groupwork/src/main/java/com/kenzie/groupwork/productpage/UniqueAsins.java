@@ -0,0 +1,35 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Tracks the similar products already added to a result, by ASIN. Products without an ASIN can only be told apart
+ * by identity.
+ */
+final class UniqueAsins {
+
+    private final Set<String> asins = new HashSet<>();
+    private Set<ProductV2> productsWithoutAsin;
+
+    /**
+     * Adds a product.
+     *
+     * @param product the product to add
+     * @return true if no product with the same ASIN was added before
+     */
+    boolean add(final ProductV2 product) {
+        final String asin = product.asin();
+        if (asin != null) {
+            return asins.add(asin);
+        }
+        if (productsWithoutAsin == null) {
+            productsWithoutAsin = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+        return productsWithoutAsin.add(product);
+    }
+}
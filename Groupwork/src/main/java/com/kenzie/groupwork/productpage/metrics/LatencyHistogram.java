@@ -0,0 +1,99 @@
+package com.kenzie.groupwork.productpage.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, in the style of HdrHistogram.
+ *
+ * Values below 64 have a bucket each. Above that every power of two is split into 32 equal buckets, so a recorded
+ * value is reported at most about 3% too high, whatever its magnitude. Values from 0 to about 36 minutes in
+ * nanoseconds fit in under 1,200 buckets (9.5 KB); larger values are counted in the last bucket.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_HALF = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF * 2;
+    private static final int MAX_VALUE_BITS = 41;
+    private static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final double PERCENT = 100.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(index(MAX_TRACKABLE_VALUE) + 1);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one value.
+     *
+     * @param value the value, negative values are recorded as 0
+     */
+    public void record(final long value) {
+        final long clamped = Math.max(0, value);
+        counts.incrementAndGet(index(Math.min(clamped, MAX_TRACKABLE_VALUE)));
+        totalCount.increment();
+        maxValue.accumulate(clamped);
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Returns the largest value recorded, exactly.
+     *
+     * @return the maximum, 0 if nothing was recorded
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the value at a percentile: at least that percentage of the recorded values are less than or equal to
+     * it, within the bucket precision.
+     *
+     * @param percentile from 0 to 100, e.g. 99.9
+     * @return the value, 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(Math.min(percentile, PERCENT) / PERCENT * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int index(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int bucket = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return bucket * SUB_BUCKET_HALF + (int) (value >>> bucket);
+    }
+
+    static long lowestValueOf(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int bucket = index / SUB_BUCKET_HALF - 1;
+        return (long) (index % SUB_BUCKET_HALF + SUB_BUCKET_HALF) << bucket;
+    }
+
+    static long highestValueOf(final int index) {
+        return lowestValueOf(index + 1) - 1;
+    }
+}
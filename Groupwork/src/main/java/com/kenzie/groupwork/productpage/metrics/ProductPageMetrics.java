@@ -0,0 +1,64 @@
+package com.kenzie.groupwork.productpage.metrics;
+
+/**
+ * Receives the measurements of ProductPage operations. Implement it to forward them to a reporter, or use
+ * {@link RecordingProductPageMetrics} to keep them in memory.
+ *
+ * ProductPage asks {@link #isEnabled()} before measuring anything, so with {@link #NO_OP} the only cost is that
+ * check: no clock reads and no calls into the sink. Implementations must be safe to call from many threads.
+ */
+public interface ProductPageMetrics {
+
+    /**
+     * Records nothing.
+     */
+    ProductPageMetrics NO_OP = new ProductPageMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void recordLatency(final ProductPageOperation operation, final long nanos) {
+        }
+
+        @Override
+        public void recordStageCount(final SimilarProductsStage stage, final int count) {
+        }
+
+        @Override
+        public void recordStyledMediaBuilds(final int count) {
+        }
+    };
+
+    /**
+     * Whether measurements should be taken at all.
+     *
+     * @return false to skip measuring
+     */
+    boolean isEnabled();
+
+    /**
+     * Records how long one call took.
+     *
+     * @param operation the method called
+     * @param nanos the elapsed time in nanoseconds
+     */
+    void recordLatency(ProductPageOperation operation, long nanos);
+
+    /**
+     * Records how many candidates were left after a filter stage of one getSimilarProducts call.
+     *
+     * @param stage the stage
+     * @param count the number of candidates
+     */
+    void recordStageCount(SimilarProductsStage stage, int count);
+
+    /**
+     * Records StyledMedia builds. Builds done inside a StyledMediaUrlCache on a cache miss are reported by the
+     * cache's own stats instead.
+     *
+     * @param count the number of builds
+     */
+    void recordStyledMediaBuilds(int count);
+}
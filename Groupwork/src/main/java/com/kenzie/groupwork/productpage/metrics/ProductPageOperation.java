@@ -0,0 +1,11 @@
+package com.kenzie.groupwork.productpage.metrics;
+
+/**
+ * The ProductPage methods whose latency is recorded.
+ */
+public enum ProductPageOperation {
+    GET_FIRST_BUYING_OPTION,
+    EXTRACT_MAIN_IMAGE_URL,
+    EXTRACT_LOOK_IMAGE_URL,
+    GET_SIMILAR_PRODUCTS
+}
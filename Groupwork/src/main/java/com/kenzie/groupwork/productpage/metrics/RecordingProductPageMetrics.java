@@ -0,0 +1,78 @@
+package com.kenzie.groupwork.productpage.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps ProductPage measurements in memory: a latency histogram per operation, the total candidates left after each
+ * similar products filter stage, and the number of StyledMedia builds. Share one instance per request to see where
+ * that request's time went, or one per process for aggregates.
+ */
+public class RecordingProductPageMetrics implements ProductPageMetrics {
+
+    private final Map<ProductPageOperation, LatencyHistogram> latencies = new EnumMap<>(ProductPageOperation.class);
+    private final Map<SimilarProductsStage, LongAdder> stageCounts = new EnumMap<>(SimilarProductsStage.class);
+    private final LongAdder styledMediaBuilds = new LongAdder();
+
+    /**
+     * Creates empty metrics.
+     */
+    public RecordingProductPageMetrics() {
+        for (ProductPageOperation operation : ProductPageOperation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+        for (SimilarProductsStage stage : SimilarProductsStage.values()) {
+            stageCounts.put(stage, new LongAdder());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordLatency(final ProductPageOperation operation, final long nanos) {
+        latencies.get(operation).record(nanos);
+    }
+
+    @Override
+    public void recordStageCount(final SimilarProductsStage stage, final int count) {
+        stageCounts.get(stage).add(count);
+    }
+
+    @Override
+    public void recordStyledMediaBuilds(final int count) {
+        styledMediaBuilds.add(count);
+    }
+
+    /**
+     * Returns the latency histogram of an operation, in nanoseconds.
+     *
+     * @param operation the operation
+     * @return the live histogram
+     */
+    public LatencyHistogram getLatency(final ProductPageOperation operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * Returns the total number of candidates left after a stage, over every getSimilarProducts call.
+     *
+     * @param stage the stage
+     * @return the total
+     */
+    public long getStageCount(final SimilarProductsStage stage) {
+        return stageCounts.get(stage).sum();
+    }
+
+    /**
+     * Returns the number of StyledMedia builds done by ProductPage itself, outside any URL cache.
+     *
+     * @return the total
+     */
+    public long getStyledMediaBuilds() {
+        return styledMediaBuilds.sum();
+    }
+}
@@ -0,0 +1,24 @@
+package com.kenzie.groupwork.productpage.metrics;
+
+/**
+ * The filter stages of ProductPage.getSimilarProducts, in the order they run. Each stage's count is the number of
+ * candidates left after it.
+ */
+public enum SimilarProductsStage {
+    /**
+     * Every similar product, before filtering.
+     */
+    CANDIDATES,
+    /**
+     * Non-null and valid.
+     */
+    VALID,
+    /**
+     * Priced within the price range.
+     */
+    PRICE_IN_RANGE,
+    /**
+     * Ships with an accepted program, each product once: the products returned.
+     */
+    SHIPPING_MATCHED
+}
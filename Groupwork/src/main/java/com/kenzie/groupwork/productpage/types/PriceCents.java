@@ -0,0 +1,63 @@
+package com.kenzie.groupwork.productpage.types;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts prices to whole cents, so they can be compared as longs instead of BigDecimals.
+ *
+ * {@link #toCents} rounds fractions of a cent up and {@link #floorCents} rounds them down. A price is at most a bound
+ * in whole cents exactly when its rounded-up cents are, and at least such a bound exactly when its rounded-down cents
+ * are, so range checks against {@link PriceRangeOption#RANGES} need both, see
+ * {@link PriceRangeOption#priceIsWithinCents(long, long)}. Either one works as a sort key, where amounts less than a
+ * cent apart become ties.
+ */
+public final class PriceCents {
+
+    private static final BigDecimal MAX_CENTS = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal MIN_CENTS = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private PriceCents() {
+    }
+
+    /**
+     * Converts a price to cents, rounding fractions of a cent up. Prices beyond the range of a long are clamped.
+     *
+     * @param price the price, in dollars
+     * @return the price in cents
+     */
+    public static long toCents(final BigDecimal price) {
+        return toCents(price, RoundingMode.CEILING);
+    }
+
+    /**
+     * Converts a price to cents, rounding fractions of a cent down. Prices beyond the range of a long are clamped.
+     *
+     * @param price the price, in dollars
+     * @return the price in cents
+     */
+    public static long floorCents(final BigDecimal price) {
+        return toCents(price, RoundingMode.FLOOR);
+    }
+
+    private static long toCents(final BigDecimal price, final RoundingMode roundingMode) {
+        final BigDecimal cents = price.movePointRight(2).setScale(0, roundingMode);
+        if (cents.compareTo(MAX_CENTS) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (cents.compareTo(MIN_CENTS) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+
+    /**
+     * Converts cents back to a price in dollars.
+     *
+     * @param cents the price in cents
+     * @return the price, in dollars
+     */
+    public static BigDecimal toPrice(final long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -37,12 +37,21 @@ public class PriceRangeOption {
     private final BigDecimal min;
     private final BigDecimal max;
 
+    private final long minCents;
+    private final long maxCents;
+
     public PriceRangeOption(final PriceRangeEnum value) {
         this.value = value;
         displayString = DISPLAY_STRINGS.get(value);
         final Pair<BigDecimal, BigDecimal> range = RANGES.get(value);
         min = range.getLeft();
         max = range.getRight();
+        minCents = min == null ? Long.MIN_VALUE : PriceCents.toCents(min);
+        maxCents = max == null ? Long.MAX_VALUE : PriceCents.toCents(max);
+    }
+
+    public PriceRangeEnum getValue() {
+        return value;
     }
 
     /**
@@ -54,4 +63,17 @@ public class PriceRangeOption {
     public boolean priceIsWithin(final BigDecimal price) {
         return (min == null || min.compareTo(price) <= 0) && (max == null || max.compareTo(price) >= 0);
     }
+
+    /**
+     * Checks if a price is within price range, given as its cents rounded down and up (see {@link PriceCents}).
+     * The bounds are whole dollars, so the answer is the same as {@link #priceIsWithin(BigDecimal)}: the price is at
+     * least the min exactly when its rounded-down cents are, and at most the max exactly when its rounded-up cents are.
+     *
+     * @param floorCents the price in cents, rounded down
+     * @param ceilingCents the price in cents, rounded up
+     * @return check result
+     */
+    public boolean priceIsWithinCents(final long floorCents, final long ceilingCents) {
+        return minCents <= floorCents && ceilingCents <= maxCents;
+    }
 }
@@ -6,16 +6,42 @@ import java.util.List;
 public class PrimeOption {
 
     public static final String KEY = "pcb-offers-prime";
-    public static final PrimeOption ANY_SHIPPING = new PrimeOption(Arrays.asList(ShippingProgramEnum.values()));
+    public static final PrimeOption ANY_SHIPPING =
+            new PrimeOption(Arrays.asList(ShippingProgramEnum.values()), ShippingProgramMask.ALL);
 
     private List<ShippingProgramEnum> supportedShipping;
+    private int supportedShippingMask;
     private String url;
 
     public PrimeOption(final List<ShippingProgramEnum> supportedShipping) {
+        this(supportedShipping, ShippingProgramMask.of(supportedShipping));
+    }
+
+    private PrimeOption(final List<ShippingProgramEnum> supportedShipping, final int supportedShippingMask) {
         this.supportedShipping = supportedShipping;
+        this.supportedShippingMask = supportedShippingMask;
     }
 
     public boolean matches(ShippingProgramEnum program) {
-        return supportedShipping.contains(program);
+        return ShippingProgramMask.contains(supportedShippingMask, program);
+    }
+
+    /**
+     * Checks whether a product that ships with the programs of a mask matches this option.
+     *
+     * @param shippingProgramMask the product's programs, see {@link ShippingProgramMask#of(java.util.Collection)}
+     * @return true if the product ships with at least one supported program
+     */
+    public boolean matchesMask(final int shippingProgramMask) {
+        return ShippingProgramMask.intersects(supportedShippingMask, shippingProgramMask);
+    }
+
+    /**
+     * Returns the supported programs as a {@link ShippingProgramMask}, all ones for ANY_SHIPPING.
+     *
+     * @return the supported programs mask
+     */
+    public int getSupportedShippingMask() {
+        return supportedShippingMask;
     }
 }
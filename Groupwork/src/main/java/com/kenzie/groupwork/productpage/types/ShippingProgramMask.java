@@ -0,0 +1,74 @@
+package com.kenzie.groupwork.productpage.types;
+
+import java.util.Collection;
+
+/**
+ * Sets of {@link ShippingProgramEnum} packed into an int, one bit per program ordinal (room for 32 programs).
+ *
+ * Checking whether a product ships with any program a {@link PrimeOption} accepts is then a single AND of the
+ * product's mask and the option's mask.
+ */
+public final class ShippingProgramMask {
+
+    /**
+     * Every bit set: matches any product that ships with at least one program.
+     */
+    public static final int ALL = ~0;
+
+    /**
+     * No bit set: matches nothing.
+     */
+    public static final int NONE = 0;
+
+    private ShippingProgramMask() {
+    }
+
+    /**
+     * Returns the bit of one program.
+     *
+     * @param program the program
+     * @return the program's bit, NONE if the program is null
+     */
+    public static int of(final ShippingProgramEnum program) {
+        return program == null ? NONE : 1 << program.ordinal();
+    }
+
+    /**
+     * Returns the mask of a set of programs.
+     *
+     * @param programs the programs, may be null or contain nulls
+     * @return the mask, NONE if there are no programs
+     */
+    public static int of(final Collection<ShippingProgramEnum> programs) {
+        if (programs == null) {
+            return NONE;
+        }
+        int mask = NONE;
+        for (ShippingProgramEnum program : programs) {
+            mask |= of(program);
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether a mask contains a program.
+     *
+     * @param mask the mask
+     * @param program the program
+     * @return true if the program's bit is set, false for a null program
+     */
+    public static boolean contains(final int mask, final ShippingProgramEnum program) {
+        return (mask & of(program)) != NONE;
+    }
+
+    /**
+     * Checks whether two masks share a program.
+     *
+     * @param mask the first mask
+     * @param other the second mask
+     * @return true if any bit is set in both
+     */
+    public static boolean intersects(final int mask, final int other) {
+        return (mask & other) != NONE;
+    }
+}
@@ -51,6 +51,9 @@ public class StyledMedia implements MediaType {
     }
 
     public static final class Builder {
+        // Only used to build a String right away, never handed out.
+        private static final ThreadLocal<UrlCharBuffer> BUILD_BUFFERS = ThreadLocal.withInitial(UrlCharBuffer::new);
+
         private final StringBuilder rendering;
         private String cdn;
         private String extension;
@@ -81,49 +84,7 @@ public class StyledMedia implements MediaType {
          * @return Creates the StyledMedia with the provided configuration.
          */
         public StyledMedia build() {
-            if (width <= 0 || height <= 0) {
-                return new StyledMedia(null, width, height);
-            }
-
-            StringBuilder url = new StringBuilder(128)
-                .append("https://")
-                .append(deriveCdn());
-
-            if (s3Bucket != null) {
-                url.append("/images/S/")
-                    .append(s3Bucket)
-                    .append("/")
-                    .append(physicalId);
-                // TODO: use physicalId, or introduce a new field (name, resourcePath, s3object, s3Path, etc ?)
-                if (rendering.length() > 0) {
-                    url.append('.')
-                        .append(rendering);
-                }
-            } else if (name == null) {
-                url.append("/images/I/")
-                    .append(physicalId);
-                if (rendering.length() > 0) {
-                    url.append('.')
-                        .append(rendering);
-                }
-            } else {
-                url.append("/images/G/")
-                    .append(orgUnit)
-                    .append('/')
-                    .append(name)
-                    .append("._CB")
-                    .append(cacheBypassTag)
-                    .append(rendering);
-            }
-
-            if (cacheBypassTag != null || rendering.length() > 0) {
-                url.append('_');
-            }
-
-            url.append('.')
-                .append(extension);
-
-            return new StyledMedia(url.toString(), width, height);
+            return new StyledMedia(hasUrl() ? url(physicalId, extension) : null, width, height);
         }
 
         /**
@@ -331,20 +292,24 @@ public class StyledMedia implements MediaType {
             if (side <= 0) {
                 throw new IllegalArgumentException("Cannot scale image to 0 pixels or less, got: " + side);
             }
-            if (width > height) {
-                if (side < width) {
-                    height = side * height / width;
-                    width = side;
-                }
-            } else if (side < height) {
-                width = side * width / height;
-                height = side;
-            }
+            final int scaledWidth = scaledToLongest(width, height, side);
+            height = scaledToLongest(height, width, side);
+            width = scaledWidth;
             rendering.append("_SL")
                 .append(side);
             return this;
         }
 
+        /**
+         * The width {@link #scaleToLongest(int)} gives an image of width x height; swap the arguments for the height.
+         */
+        static int scaledToLongest(final int width, final int height, final int side) {
+            if (width > height) {
+                return Math.min(side, width);
+            }
+            return side < height ? side * width / height : width;
+        }
+
         /**
          * Upscales the image if target height is bigger than original height
          * Scales this image so that it is exactly <code>side</code> pixels in height. The aspect ratio of the original
@@ -432,5 +397,98 @@ public class StyledMedia implements MediaType {
         private String deriveCdn() {
             return Optional.ofNullable(cdn).orElse("PROD");
         }
+
+        private StyledMediaUrlPrefix urlPrefix() {
+            if (s3Bucket != null) {
+                return StyledMediaUrlPrefix.of(StyledMediaUrlPrefix.Family.S3, deriveCdn(), s3Bucket);
+            }
+            return name == null
+                ? StyledMediaUrlPrefix.of(StyledMediaUrlPrefix.Family.IMAGES, deriveCdn(), null)
+                : StyledMediaUrlPrefix.of(StyledMediaUrlPrefix.Family.GLOBAL, deriveCdn(), orgUnit);
+        }
+
+        /**
+         * Writes the URL {@link #build()} would generate into a reusable buffer, without building a String.
+         * Callers check {@link #hasUrl()} first.
+         *
+         * @param buffer the buffer to render into, cleared first.
+         * @return the length of the URL up to the end of the style codes, e.g. just past the 160 of a last _SL160.
+         */
+        int renderUrl(UrlCharBuffer buffer) {
+            return renderUrl(buffer, physicalId, extension);
+        }
+
+        /**
+         * Generates the URL of another image with this Builder's configuration, the same as {@link #build()} would
+         * for a Builder with that physicalId and extension. Only reads the Builder, so a Builder that is no longer
+         * changed can be shared between threads. Callers check {@link #hasUrl()} first.
+         *
+         * @param imagePhysicalId the image's physicalId.
+         * @param imageExtension the image's extension.
+         * @return the URL.
+         */
+        String url(String imagePhysicalId, String imageExtension) {
+            final UrlCharBuffer buffer = BUILD_BUFFERS.get();
+            renderUrl(buffer, imagePhysicalId, imageExtension);
+            return buffer.toString();
+        }
+
+        /**
+         * The URL layout, the only place it is spelled out. Returns where the style codes end.
+         */
+        private int renderUrl(UrlCharBuffer buffer, String imagePhysicalId, String imageExtension) {
+            buffer.clear();
+            buffer.appendPrefix(urlPrefix());
+
+            if (s3Bucket != null || name == null) {
+                // TODO: use physicalId, or introduce a new field (name, resourcePath, s3object, s3Path, etc ?)
+                buffer.append(imagePhysicalId);
+                if (rendering.length() > 0) {
+                    buffer.append('.')
+                        .append(rendering);
+                }
+            } else {
+                buffer.append(name)
+                    .append("._CB")
+                    .append(cacheBypassTag)
+                    .append(rendering);
+            }
+            final int styleEnd = buffer.length();
+
+            if (cacheBypassTag != null || rendering.length() > 0) {
+                buffer.append('_');
+            }
+
+            buffer.append('.')
+                .append(imageExtension);
+            return styleEnd;
+        }
+
+        /**
+         * Whether {@link #build()} will generate a URL.
+         *
+         * @return true if both dimensions are positive.
+         */
+        boolean hasUrl() {
+            return width > 0 && height > 0;
+        }
+
+        int width() {
+            return width;
+        }
+
+        int height() {
+            return height;
+        }
+
+        /**
+         * Captures everything {@link #build()} uses to generate the URL, so equal keys generate equal URLs.
+         *
+         * @return the key for this Builder's current state.
+         */
+        StyledMediaUrlKey urlKey() {
+            return new StyledMediaUrlKey(deriveCdn(), extension, s3Bucket, physicalId, name, orgUnit, cacheBypassTag,
+                rendering.toString());
+        }
     }
 }
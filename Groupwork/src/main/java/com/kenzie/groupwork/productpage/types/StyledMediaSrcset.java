@@ -0,0 +1,81 @@
+package com.kenzie.groupwork.productpage.types;
+
+/**
+ * Generates the URLs of one image at several sizes, e.g. for an HTML srcset, in a single pass.
+ *
+ * The URL of <code>media.styleBuilder().scaleToLongest(size).build()</code> only differs between sizes in the
+ * number of its last style code, _SL&lt;size&gt;. The first URL is rendered by {@link StyledMedia.Builder} into a
+ * reused buffer, which then keeps the shared head; every other URL only swaps the number and appends the shared
+ * tail, without a Builder, rendering or StyledMedia per size. The URL layout itself stays in the Builder.
+ */
+public final class StyledMediaSrcset {
+
+    private static final ThreadLocal<UrlCharBuffer> BUFFERS = ThreadLocal.withInitial(UrlCharBuffer::new);
+
+    private StyledMediaSrcset() {
+    }
+
+    /**
+     * Returns the URL of the media scaled to each longest side, the same as calling
+     * <code>media.styleBuilder().scaleToLongest(size).build().url()</code> for each size.
+     *
+     * @param media the image
+     * @param sizes the longest sides in pixels, each must be positive
+     * @return one URL per size, in order; null where the scaled image has no URL
+     */
+    public static String[] urlsScaledToLongest(final StyledMedia media, final int[] sizes) {
+        final String[] urls = new String[sizes.length];
+        final UrlCharBuffer buffer = BUFFERS.get();
+        int headLength = -1;
+        String tail = null;
+        for (int i = 0; i < sizes.length; i++) {
+            if (!hasUrl(media, sizes[i])) {
+                continue;
+            }
+            if (tail == null) {
+                final int styleEnd = media.styleBuilder().scaleToLongest(sizes[i]).renderUrl(buffer);
+                headLength = styleEnd - Integer.toString(sizes[i]).length();
+                tail = buffer.subSequence(styleEnd, buffer.length()).toString();
+                urls[i] = buffer.toString();
+                continue;
+            }
+            buffer.truncate(headLength);
+            urls[i] = buffer.append(sizes[i]).append(tail).toString();
+        }
+        return urls;
+    }
+
+    /**
+     * Returns an HTML srcset of the media scaled to each longest side: "URL 120w, URL 240w". Sizes without a URL are
+     * left out.
+     *
+     * @param media the image
+     * @param sizes the longest sides in pixels, each must be positive
+     * @return the srcset, empty if no size has a URL
+     */
+    public static String srcset(final StyledMedia media, final int[] sizes) {
+        final String[] urls = urlsScaledToLongest(media, sizes);
+        final StringBuilder srcset = new StringBuilder();
+        for (int i = 0; i < urls.length; i++) {
+            if (urls[i] != null) {
+                if (srcset.length() > 0) {
+                    srcset.append(", ");
+                }
+                srcset.append(urls[i]).append(' ')
+                    .append(StyledMedia.Builder.scaledToLongest(media.width(), media.height(), sizes[i])).append('w');
+            }
+        }
+        return srcset.toString();
+    }
+
+    /**
+     * Whether {@link StyledMedia.Builder#scaleToLongest(int)} leaves both dimensions positive.
+     */
+    private static boolean hasUrl(final StyledMedia media, final int side) {
+        if (side <= 0) {
+            throw new IllegalArgumentException("Cannot scale image to 0 pixels or less, got: " + side);
+        }
+        return StyledMedia.Builder.scaledToLongest(media.width(), media.height(), side) > 0
+                && StyledMedia.Builder.scaledToLongest(media.height(), media.width(), side) > 0;
+    }
+}
@@ -0,0 +1,241 @@
+package com.kenzie.groupwork.productpage.types;
+
+import java.util.function.Consumer;
+
+/**
+ * An immutable {@link StyledMedia.Builder}: every operation returns a new template that shares the operations before
+ * it, so a template such as <code>of(500, 400).cdn(X).autoCrop().scaleToLongest(120)</code> can be configured once
+ * and used from any number of threads without locks.
+ *
+ * Each template replays its operations on a Builder once, when it is created, so invalid arguments are rejected
+ * straight away with the Builder's exceptions, and keeps that Builder without changing it again. Generating the
+ * URL of an image then renders the Builder's layout with the image's physicalId and extension, without replaying the
+ * operations or building a StyledMedia.
+ */
+public final class StyledMediaTemplate {
+
+    private final StyledMediaTemplate parent;
+    private final Consumer<StyledMedia.Builder> operation;
+    private final int originalWidth;
+    private final int originalHeight;
+    private final StyledMedia.Builder builder;
+    private final int width;
+    private final int height;
+
+    private StyledMediaTemplate(final StyledMediaTemplate parent, final Consumer<StyledMedia.Builder> operation,
+                                final int originalWidth, final int originalHeight) {
+        this.parent = parent;
+        this.operation = operation;
+        this.originalWidth = originalWidth;
+        this.originalHeight = originalHeight;
+
+        this.builder = toBuilder();
+        this.width = builder.width();
+        this.height = builder.height();
+    }
+
+    /**
+     * Creates a template for images of a size.
+     *
+     * @param width the original width in pixels
+     * @param height the original height in pixels
+     * @return a template without operations
+     */
+    public static StyledMediaTemplate of(final int width, final int height) {
+        return new StyledMediaTemplate(null, null, width, height);
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#cdn(String)}.
+     *
+     * @param cdnHost The CDN host that has the image.
+     * @return a new template
+     */
+    public StyledMediaTemplate cdn(final String cdnHost) {
+        return then(builder -> builder.cdn(cdnHost));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#withNameAndOU(String, String, String)}. URLs of a path-based template do not
+     * depend on the physicalId.
+     *
+     * @param imgName name of the image.
+     * @param org organization of the image.
+     * @param bypassCacheTag tag for bypassing the cache.
+     * @return a new template
+     */
+    public StyledMediaTemplate withNameAndOU(final String imgName, final String org, final String bypassCacheTag) {
+        return then(builder -> builder.withNameAndOU(imgName, org, bypassCacheTag));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#crop(int, int, int, int)}.
+     *
+     * @param x left of the cropped area in pixels
+     * @param y top of the cropped area in pixels
+     * @param scaledWidth width of the cropped area
+     * @param scaledHeight height of the cropped area
+     * @return a new template
+     */
+    public StyledMediaTemplate crop(final int x, final int y, final int scaledWidth, final int scaledHeight) {
+        return then(builder -> builder.crop(x, y, scaledWidth, scaledHeight));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#autoCrop()}.
+     *
+     * @return a new template
+     */
+    public StyledMediaTemplate autoCrop() {
+        return then(StyledMedia.Builder::autoCrop);
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#blur(int)}.
+     *
+     * @param percent the blur percentage
+     * @return a new template
+     */
+    public StyledMediaTemplate blur(final int percent) {
+        return then(builder -> builder.blur(percent));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#scaleToRectangle(int, int)}.
+     *
+     * @param scaledWidth the maximum width
+     * @param scaledHeight the maximum height
+     * @return a new template
+     */
+    public StyledMediaTemplate scaleToRectangle(final int scaledWidth, final int scaledHeight) {
+        return then(builder -> builder.scaleToRectangle(scaledWidth, scaledHeight));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#scaleToSquare(int)}.
+     *
+     * @param side the side of the square
+     * @return a new template
+     */
+    public StyledMediaTemplate scaleToSquare(final int side) {
+        return then(builder -> builder.scaleToSquare(side));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#scaleToWidth(int)}.
+     *
+     * @param scaledWidth the width
+     * @return a new template
+     */
+    public StyledMediaTemplate scaleToWidth(final int scaledWidth) {
+        return then(builder -> builder.scaleToWidth(scaledWidth));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#scaleToHeight(int)}.
+     *
+     * @param scaledHeight the height
+     * @return a new template
+     */
+    public StyledMediaTemplate scaleToHeight(final int scaledHeight) {
+        return then(builder -> builder.scaleToHeight(scaledHeight));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#scaleToLongest(int)}.
+     *
+     * @param side the longest side
+     * @return a new template
+     */
+    public StyledMediaTemplate scaleToLongest(final int side) {
+        return then(builder -> builder.scaleToLongest(side));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#upscaleToHeight(int)}.
+     *
+     * @param scaledHeight the height
+     * @return a new template
+     */
+    public StyledMediaTemplate upscaleToHeight(final int scaledHeight) {
+        return then(builder -> builder.upscaleToHeight(scaledHeight));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#upscaleToLongest(int)}.
+     *
+     * @param side the longest side
+     * @return a new template
+     */
+    public StyledMediaTemplate upscaleToLongest(final int side) {
+        return then(builder -> builder.upscaleToLongest(side));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#upscaleToWidth(int)}.
+     *
+     * @param scaledWidth the width
+     * @return a new template
+     */
+    public StyledMediaTemplate upscaleToWidth(final int scaledWidth) {
+        return then(builder -> builder.upscaleToWidth(scaledWidth));
+    }
+
+    /**
+     * See {@link StyledMedia.Builder#customStyle(String)}.
+     *
+     * @param custom the style code
+     * @return a new template
+     */
+    public StyledMediaTemplate customStyle(final String custom) {
+        return then(builder -> builder.customStyle(custom));
+    }
+
+    /**
+     * Returns the width after the operations.
+     *
+     * @return the width in pixels
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Returns the height after the operations.
+     *
+     * @return the height in pixels
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Generates the URL of an image, the same URL a Builder with this template's operations would build for it.
+     *
+     * @param physicalId the image's physicalId
+     * @param extension the image's extension, e.g. "jpg"
+     * @return the URL, or null if the dimensions are not positive (same as {@link StyledMedia#url()}).
+     */
+    public String url(final String physicalId, final String extension) {
+        return builder.hasUrl() ? builder.url(physicalId, extension) : null;
+    }
+
+    /**
+     * Creates a new mutable Builder with this template's operations applied, for APIs that take a Builder.
+     *
+     * @return a new Builder
+     */
+    public StyledMedia.Builder toBuilder() {
+        final StyledMedia.Builder builder = parent == null
+            ? new StyledMedia.Builder(originalWidth, originalHeight)
+            : parent.toBuilder();
+        if (operation != null) {
+            operation.accept(builder);
+        }
+        return builder;
+    }
+
+    private StyledMediaTemplate then(final Consumer<StyledMedia.Builder> next) {
+        return new StyledMediaTemplate(this, next, originalWidth, originalHeight);
+    }
+}
@@ -0,0 +1,85 @@
+package com.kenzie.groupwork.productpage.types;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A bounded, thread-safe cache of the URLs generated by {@link StyledMedia.Builder#build()}.
+ *
+ * Product images are rendered with the same physicalId, extension, rendering and CDN over and over, so the URL
+ * is looked up by the Builder's state instead of being generated again. The least recently used URLs are evicted
+ * once the cache is full. Hit, miss and eviction counts are available from {@link #stats()} to size the cache.
+ */
+public class StyledMediaUrlCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<StyledMediaUrlKey, String> cache;
+
+    /**
+     * Creates a cache holding up to {@link #DEFAULT_MAXIMUM_SIZE} URLs.
+     */
+    public StyledMediaUrlCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a cache holding up to maximumSize URLs.
+     *
+     * @param maximumSize the maximum number of URLs to keep.
+     */
+    public StyledMediaUrlCache(final long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be a positive number, got: " + maximumSize);
+        }
+        cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the URL the builder would build, generating it only if it is not cached.
+     *
+     * @param builder the configured Builder.
+     * @return the URL, or null if the Builder's dimensions are not positive (same as {@link StyledMedia#url()}).
+     */
+    public String url(final StyledMedia.Builder builder) {
+        if (!builder.hasUrl()) {
+            return null;
+        }
+        try {
+            return cache.get(builder.urlKey(), () -> builder.build().url());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not build StyledMedia URL", e.getCause());
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counts since this cache was created.
+     *
+     * @return a snapshot of the cache statistics.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * The number of URLs currently cached.
+     *
+     * @return the approximate number of cached URLs.
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes every cached URL. Statistics are kept.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
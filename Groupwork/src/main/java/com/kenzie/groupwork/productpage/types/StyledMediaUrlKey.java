@@ -0,0 +1,59 @@
+package com.kenzie.groupwork.productpage.types;
+
+import java.util.Objects;
+
+/**
+ * The parts of a {@link StyledMedia.Builder} that make up its URL. The dimensions are left out: they only decide
+ * whether there is a URL at all, see {@link StyledMedia.Builder#hasUrl()}.
+ */
+final class StyledMediaUrlKey {
+    private final String cdn;
+    private final String extension;
+    private final String s3Bucket;
+    private final String physicalId;
+    private final String name;
+    private final String orgUnit;
+    private final String cacheBypassTag;
+    private final String rendering;
+    private final int hashCode;
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    StyledMediaUrlKey(String cdn, String extension, String s3Bucket, String physicalId, String name, String orgUnit,
+                      String cacheBypassTag, String rendering) {
+        this.cdn = cdn;
+        this.extension = extension;
+        this.s3Bucket = s3Bucket;
+        this.physicalId = physicalId;
+        this.name = name;
+        this.orgUnit = orgUnit;
+        this.cacheBypassTag = cacheBypassTag;
+        this.rendering = rendering;
+        this.hashCode = Objects.hash(cdn, extension, s3Bucket, physicalId, name, orgUnit, cacheBypassTag,
+            rendering);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        StyledMediaUrlKey other = (StyledMediaUrlKey) o;
+        return hashCode == other.hashCode
+            && rendering.equals(other.rendering)
+            && Objects.equals(physicalId, other.physicalId)
+            && Objects.equals(extension, other.extension)
+            && cdn.equals(other.cdn)
+            && Objects.equals(s3Bucket, other.s3Bucket)
+            && Objects.equals(name, other.name)
+            && Objects.equals(orgUnit, other.orgUnit)
+            && Objects.equals(cacheBypassTag, other.cacheBypassTag);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
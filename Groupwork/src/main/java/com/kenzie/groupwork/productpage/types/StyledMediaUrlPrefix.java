@@ -0,0 +1,120 @@
+package com.kenzie.groupwork.productpage.types;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The part of a {@link StyledMedia} URL shared by every image of a CDN and path family, e.g.
+ * "https://CDN/images/S/BUCKET/", prebuilt as chars and UTF-8 bytes.
+ *
+ * Prefixes come from a process-wide table, so rendering a URL copies one prefix instead of appending its pieces
+ * again. Looking a prefix up does not allocate. The table stops growing at {@link #MAX_PREFIXES}; prefixes past that
+ * are built on every call, like before.
+ */
+final class StyledMediaUrlPrefix {
+
+    /**
+     * A few hundred prefixes are expected, this only guards against unbounded CDNs or buckets.
+     */
+    static final int MAX_PREFIXES = 4_096;
+
+    /**
+     * The path families of {@link StyledMedia.Builder#build()}.
+     */
+    enum Family {
+        IMAGES("/images/I/"),
+        S3("/images/S/"),
+        GLOBAL("/images/G/");
+
+        private final String path;
+
+        Family(final String path) {
+            this.path = path;
+        }
+    }
+
+    private static final ConcurrentMap<String, StyledMediaUrlPrefix> IMAGES_BY_CDN = new ConcurrentHashMap<>();
+    // S3 and GLOBAL prefixes, by CDN then segment.
+    private static final Map<Family, ConcurrentMap<String, ConcurrentMap<String, StyledMediaUrlPrefix>>> TABLE =
+            createTable();
+    private static final AtomicInteger SIZE = new AtomicInteger();
+
+    private final String text;
+    private final byte[] utf8;
+
+    private StyledMediaUrlPrefix(final String text) {
+        this.text = text;
+        this.utf8 = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the prefix of a CDN, path family and segment.
+     *
+     * @param family the path family
+     * @param cdn the CDN host
+     * @param segment the s3Bucket of S3 or the orgUnit of GLOBAL, ignored for IMAGES
+     * @return the prefix
+     */
+    static StyledMediaUrlPrefix of(final Family family, final String cdn, final String segment) {
+        if (family == Family.IMAGES) {
+            final StyledMediaUrlPrefix prefix = IMAGES_BY_CDN.get(cdn);
+            return prefix != null ? prefix : intern(IMAGES_BY_CDN, cdn, "https://" + cdn + family.path);
+        }
+        final String segmentKey = String.valueOf(segment);
+        final ConcurrentMap<String, ConcurrentMap<String, StyledMediaUrlPrefix>> byCdn = TABLE.get(family);
+        final ConcurrentMap<String, StyledMediaUrlPrefix> prefixes = byCdn.get(cdn);
+        final StyledMediaUrlPrefix prefix = prefixes == null ? null : prefixes.get(segmentKey);
+        if (prefix != null) {
+            return prefix;
+        }
+        final String text = "https://" + cdn + family.path + segmentKey + '/';
+        if (SIZE.get() >= MAX_PREFIXES) {
+            return new StyledMediaUrlPrefix(text);
+        }
+        return intern(byCdn.computeIfAbsent(cdn, ignored -> new ConcurrentHashMap<>()), segmentKey, text);
+    }
+
+    /**
+     * The number of prefixes in the table.
+     *
+     * @return the table size
+     */
+    static int tableSize() {
+        return SIZE.get();
+    }
+
+    String text() {
+        return text;
+    }
+
+    byte[] utf8() {
+        return utf8;
+    }
+
+    private static StyledMediaUrlPrefix intern(final ConcurrentMap<String, StyledMediaUrlPrefix> prefixes,
+                                               final String key, final String text) {
+        final StyledMediaUrlPrefix built = new StyledMediaUrlPrefix(text);
+        if (SIZE.get() >= MAX_PREFIXES) {
+            return built;
+        }
+        final StyledMediaUrlPrefix raced = prefixes.putIfAbsent(key, built);
+        if (raced != null) {
+            return raced;
+        }
+        SIZE.incrementAndGet();
+        return built;
+    }
+
+    private static Map<Family, ConcurrentMap<String, ConcurrentMap<String, StyledMediaUrlPrefix>>> createTable() {
+        final Map<Family, ConcurrentMap<String, ConcurrentMap<String, StyledMediaUrlPrefix>>> table =
+                new EnumMap<>(Family.class);
+        for (Family family : Family.values()) {
+            table.put(family, new ConcurrentHashMap<>());
+        }
+        return table;
+    }
+}
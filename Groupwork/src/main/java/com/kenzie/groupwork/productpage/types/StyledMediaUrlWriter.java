@@ -0,0 +1,54 @@
+package com.kenzie.groupwork.productpage.types;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Renders {@link StyledMedia.Builder} URLs without allocating.
+ *
+ * {@link StyledMedia.Builder#build()} renders the URL into a thread-local {@link UrlCharBuffer} and then copies it
+ * into a new String for every image. This writer renders into the same kind of buffer but skips the String: it
+ * either hands the buffer back as a CharSequence or encodes it straight into the response's ByteBuffer.
+ */
+public final class StyledMediaUrlWriter {
+
+    private static final ThreadLocal<UrlCharBuffer> BUFFERS = ThreadLocal.withInitial(UrlCharBuffer::new);
+
+    private StyledMediaUrlWriter() {
+    }
+
+    /**
+     * Renders the URL the builder would build into this thread's buffer.
+     *
+     * The returned CharSequence is reused: it is only valid until the next call to this class on the same thread.
+     * Call toString() on it to keep the URL.
+     *
+     * @param builder the configured Builder.
+     * @return the URL, or null if the Builder's dimensions are not positive (same as {@link StyledMedia#url()}).
+     */
+    public static CharSequence render(final StyledMedia.Builder builder) {
+        if (!builder.hasUrl()) {
+            return null;
+        }
+        final UrlCharBuffer buffer = BUFFERS.get();
+        builder.renderUrl(buffer);
+        return buffer;
+    }
+
+    /**
+     * Writes the URL the builder would build into a ByteBuffer as UTF-8.
+     *
+     * @param builder the configured Builder.
+     * @param out the buffer to write to, its position is advanced past the URL.
+     * @return the number of bytes written, or -1 if the Builder's dimensions are not positive.
+     * @throws BufferOverflowException if out does not have room for the URL, out is left unchanged.
+     */
+    public static int writeUtf8(final StyledMedia.Builder builder, final ByteBuffer out) {
+        if (!builder.hasUrl()) {
+            return -1;
+        }
+        final UrlCharBuffer buffer = BUFFERS.get();
+        builder.renderUrl(buffer);
+        return buffer.writeUtf8(out);
+    }
+}
@@ -0,0 +1,167 @@
+package com.kenzie.groupwork.productpage.types;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A reusable char buffer that URLs are rendered into. Only grows, so once it has seen the longest URL, rendering
+ * into it does not allocate.
+ */
+final class UrlCharBuffer implements CharSequence {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final char REPLACEMENT = '?';
+    // A surrogate pair is 4 bytes for 2 chars, so no char needs more than 3 bytes.
+    private static final int MAX_UTF8_BYTES_PER_CHAR = 3;
+
+    private char[] chars = new char[INITIAL_CAPACITY];
+    private byte[] bytes = new byte[INITIAL_CAPACITY * MAX_UTF8_BYTES_PER_CHAR];
+    private int length;
+    private byte[] prefixUtf8;
+    private int prefixLength;
+
+    void clear() {
+        length = 0;
+        prefixUtf8 = null;
+        prefixLength = 0;
+    }
+
+    /**
+     * Appends a URL prefix. At the start of the buffer, its prebuilt bytes are also kept so writeUtf8 copies them
+     * instead of encoding the prefix again.
+     */
+    UrlCharBuffer appendPrefix(final StyledMediaUrlPrefix prefix) {
+        if (length == 0) {
+            prefixUtf8 = prefix.utf8();
+            prefixLength = prefix.text().length();
+        }
+        return append(prefix.text());
+    }
+
+    UrlCharBuffer append(final char c) {
+        ensureCapacity(1);
+        chars[length++] = c;
+        return this;
+    }
+
+    UrlCharBuffer append(final String s) {
+        final String value = String.valueOf(s);
+        ensureCapacity(value.length());
+        value.getChars(0, value.length(), chars, length);
+        length += value.length();
+        return this;
+    }
+
+    /**
+     * Appends a non-negative number in decimal, without building its String.
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    UrlCharBuffer append(final int value) {
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        int rest = value;
+        for (int i = length + digits - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    /**
+     * Cuts the buffer back to its first chars, e.g. to render another URL sharing them.
+     */
+    void truncate(final int newLength) {
+        if (newLength < prefixLength || newLength > length) {
+            throw new IndexOutOfBoundsException("newLength " + newLength + ", length " + length);
+        }
+        length = newLength;
+    }
+
+    UrlCharBuffer append(final StringBuilder sb) {
+        ensureCapacity(sb.length());
+        sb.getChars(0, sb.length(), chars, length);
+        length += sb.length();
+        return this;
+    }
+
+    /**
+     * Encodes the buffer as UTF-8 into a ByteBuffer.
+     *
+     * @param out the buffer to write to, its position is advanced past the URL.
+     * @return the number of bytes written.
+     * @throws BufferOverflowException if out does not have room for the URL, out is left unchanged.
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    int writeUtf8(final ByteBuffer out) {
+        if (bytes.length < length * MAX_UTF8_BYTES_PER_CHAR) {
+            bytes = new byte[Math.max(bytes.length * 2, length * MAX_UTF8_BYTES_PER_CHAR)];
+        }
+        int n = 0;
+        int i = 0;
+        if (prefixUtf8 != null) {
+            System.arraycopy(prefixUtf8, 0, bytes, 0, prefixUtf8.length);
+            n = prefixUtf8.length;
+            i = prefixLength;
+        }
+        while (i < length) {
+            final char c = chars[i++];
+            if (c < 0x80) {
+                bytes[n++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[n++] = (byte) (0xC0 | c >> 6);
+                bytes[n++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(chars[i])) {
+                final int codePoint = Character.toCodePoint(c, chars[i++]);
+                bytes[n++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[n++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[n++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[n++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                bytes[n++] = (byte) REPLACEMENT;
+            } else {
+                bytes[n++] = (byte) (0xE0 | c >> 12);
+                bytes[n++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[n++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        if (out.remaining() < n) {
+            throw new BufferOverflowException();
+        }
+        out.put(bytes, 0, n);
+        return n;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    private void ensureCapacity(final int extra) {
+        if (length + extra > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchImageUrlExtractorTest {
+
+    private static final int TEST_LONG_DIMENSION = 120;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void extract_mainAndLookImages_matchesProductPage() {
+        // GIVEN
+        ProductImagesV2.Image noVariant = mockImage(null, 200, 200);
+        ProductImagesV2.Image noUrl = mockImage("MAIN", 0, 0);
+        ProductImagesV2.Image main = mockImage("PT01", 300, 200);
+        ProductImagesV2.Image look = mockImage("LOOK", 100, 200);
+        ProductV2 product = mockProduct(Arrays.asList(noVariant, noUrl, main, look));
+
+        // WHEN
+        ProductImageUrls imageUrls = new BatchImageUrlExtractor().extract(product, TEST_LONG_DIMENSION);
+
+        // THEN
+        ProductPage productPage = new ProductPage(product);
+        assertEquals(productPage.extractMainImageUrl(TEST_LONG_DIMENSION), imageUrls.getMainImageUrl(),
+            "Main image URL should match ProductPage!");
+        assertEquals(productPage.extractLookImageUrl(TEST_LONG_DIMENSION), imageUrls.getLookImageUrl(),
+            "LOOK image URL should match ProductPage!");
+    }
+
+    @Test
+    public void extract_lookImageIsFirstImage_buildsUrlOnce() {
+        // GIVEN
+        ProductImagesV2.Image look = mockImage("LOOK", 100, 200);
+        ProductImagesV2.Image other = mockImage("PT01", 100, 200);
+        ProductV2 product = mockProduct(Arrays.asList(look, other));
+
+        // WHEN
+        ProductImageUrls imageUrls = new BatchImageUrlExtractor().extract(product, TEST_LONG_DIMENSION);
+
+        // THEN
+        assertEquals(imageUrls.getMainImageUrl(), imageUrls.getLookImageUrl(), "LOOK image should be the main image!");
+        verify(look, times(1)).lowRes();
+        verify(other, times(0)).lowRes();
+    }
+
+    @Test
+    public void extract_noImages_returnsEmptyUrls() {
+        // GIVEN
+        ProductV2 product = mock(ProductV2.class);
+        when(product.productImages()).thenReturn(Optional.empty());
+
+        // WHEN
+        ProductImageUrls imageUrls = new BatchImageUrlExtractor().extract(product, TEST_LONG_DIMENSION);
+
+        // THEN
+        assertFalse(imageUrls.getMainImageUrl().isPresent(), "Missing images should have no main image URL!");
+        assertFalse(imageUrls.getLookImageUrl().isPresent(), "Missing images should have no LOOK image URL!");
+    }
+
+    @Test
+    public void extract_moreProductsThanBatchSize_returnsUrlsInInputOrder() {
+        // GIVEN
+        List<ProductV2> products = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            products.add(mockProduct(Collections.singletonList(mockImage("MAIN", 100, 100))));
+        }
+        BatchImageUrlExtractor extractor = new BatchImageUrlExtractor(executor, 3);
+
+        // WHEN
+        List<ProductImageUrls> imageUrls = extractor.extract(products, TEST_LONG_DIMENSION);
+
+        // THEN
+        assertEquals(products.size(), imageUrls.size(), "Every product should have its URLs!");
+        for (int i = 0; i < products.size(); i++) {
+            assertSame(products.get(i), imageUrls.get(i).getProduct(), "URLs should be in input order!");
+        }
+    }
+
+    private ProductImagesV2.Image mockImage(String variant, int width, int height) {
+        ProductImagesV2.Image image = mock(ProductImagesV2.Image.class);
+        when(image.variant()).thenReturn(variant);
+        when(image.lowRes()).thenReturn(new StyledMedia.Builder(width, height).build());
+        return image;
+    }
+
+    private ProductV2 mockProduct(List<ProductImagesV2.Image> images) {
+        ProductV2 product = mock(ProductV2.class);
+        ProductImagesV2 productImages = mock(ProductImagesV2.class);
+        when(productImages.images()).thenReturn(images);
+        when(product.productImages()).thenReturn(Optional.of(productImages));
+        return product;
+    }
+}
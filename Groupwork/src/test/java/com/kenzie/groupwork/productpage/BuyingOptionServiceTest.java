@@ -0,0 +1,164 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BuyingOptionServiceTest {
+
+    private ProductV2 product;
+    private ProductV2.BuyingOption usedOption;
+    private ProductV2.BuyingOption newOption;
+    private ProductV2.BuyingOption cheapNewOption;
+
+    @BeforeEach
+    public void setup() {
+        usedOption = mockOption("USED", "Other", BigDecimal.valueOf(5));
+        newOption = mockOption("NEW", "Amazon", BigDecimal.valueOf(10));
+        cheapNewOption = mockOption("NEW", "Other", BigDecimal.valueOf(8));
+        product = mock(ProductV2.class);
+        when(product.asin()).thenReturn("A1");
+        when(product.buyingOptions()).thenReturn(Arrays.asList(usedOption, newOption, cheapNewOption));
+    }
+
+    @Test
+    public void winner_defaultRanking_matchesProductPage() {
+        // GIVEN
+        BuyingOptionService service = new BuyingOptionService();
+
+        // WHEN
+        Optional<ProductV2.BuyingOption> winner = service.winner(product);
+
+        // THEN
+        assertEquals(new ProductPage(product).getFirstBuyingOption(), winner, "First option should win!");
+    }
+
+    @Test
+    public void winner_combinedRanking_picksBestOption() {
+        // GIVEN
+        BuyingOptionService service = new BuyingOptionService(BuyingOptionRankings.preferredTypes("NEW")
+            .thenComparing(BuyingOptionRankings.preferredMerchant("Amazon"))
+            .thenComparing(BuyingOptionRankings.lowestPrice()));
+
+        // WHEN
+        Optional<ProductV2.BuyingOption> winner = service.winner(product);
+
+        // THEN
+        assertEquals(Optional.of(newOption), winner, "NEW from the preferred merchant should win!");
+    }
+
+    @Test
+    public void winner_sameVersion_ranksOnce() {
+        // GIVEN
+        BuyingOptionService service = new BuyingOptionService(BuyingOptionRankings.lowestPrice());
+
+        // WHEN
+        Optional<ProductV2.BuyingOption> first = service.winner(product, 1);
+        Optional<ProductV2.BuyingOption> second = service.winner(product, 1);
+
+        // THEN
+        assertEquals(Optional.of(usedOption), first, "Cheapest option should win!");
+        assertSame(first, second, "Cached winner should be returned as is!");
+        verify(product, times(1)).buyingOptions();
+    }
+
+    @Test
+    public void winner_newVersion_ranksAgainAndKeepsNewest() {
+        // GIVEN
+        BuyingOptionService service = new BuyingOptionService(BuyingOptionRankings.lowestPrice());
+        service.winner(product, 2);
+        when(product.buyingOptions()).thenReturn(Arrays.asList(newOption, cheapNewOption));
+
+        // WHEN
+        Optional<ProductV2.BuyingOption> newVersion = service.winner(product, 3);
+        service.winner(product, 1);
+        Optional<ProductV2.BuyingOption> cached = service.winner(product, 3);
+
+        // THEN
+        assertEquals(Optional.of(cheapNewOption), newVersion, "New version should be ranked again!");
+        assertSame(newVersion, cached, "An older version should not replace the newest winner!");
+        verify(product, times(3)).buyingOptions();
+    }
+
+    @Test
+    public void invalidate_cachedWinner_ranksAgain() {
+        // GIVEN
+        BuyingOptionService service = new BuyingOptionService(BuyingOptionRankings.lowestPrice());
+        service.winner(product);
+        when(product.buyingOptions()).thenReturn(Collections.emptyList());
+
+        // WHEN
+        service.invalidate("A1");
+        Optional<ProductV2.BuyingOption> winner = service.winner(product);
+
+        // THEN
+        assertFalse(winner.isPresent(), "Invalidated winner should be ranked from the new offers!");
+        assertEquals(1, service.size(), "The new winner should be cached!");
+    }
+
+    @Test
+    public void invalidate_whileRanking_doesNotKeepTheStaleWinner() {
+        // GIVEN
+        BuyingOptionService service = new BuyingOptionService(BuyingOptionRankings.lowestPrice());
+        when(product.buyingOptions()).thenAnswer(invocation -> {
+            // The offers change, and are invalidated, after this ranking has read them.
+            service.invalidate("A1");
+            return Arrays.asList(usedOption, newOption);
+        });
+
+        // WHEN
+        Optional<ProductV2.BuyingOption> stale = service.winner(product);
+
+        // THEN
+        assertEquals(Optional.of(usedOption), stale, "The caller should still get the winner it ranked!");
+        assertEquals(0, service.size(), "A winner ranked across an invalidation should not be cached!");
+    }
+
+    @Test
+    public void winner_moreAsinsThanMaximumSize_staysBounded() {
+        // GIVEN
+        BuyingOptionService service = new BuyingOptionService(BuyingOptionRankings.lowestPrice(), 2);
+
+        // WHEN
+        for (int i = 0; i < 10; i++) {
+            ProductV2 other = mock(ProductV2.class);
+            when(other.asin()).thenReturn("B" + i);
+            when(other.buyingOptions()).thenReturn(Collections.singletonList(newOption));
+            service.winner(other);
+        }
+
+        // THEN
+        assertTrue(service.size() <= 2, "At most 2 winners should be cached, saw " + service.size() + "!");
+    }
+
+    @Test
+    public void constructor_nonPositiveMaximumSize_throwsIllegalArgumentException() {
+        // GIVEN - WHEN - THEN
+        assertThrows(IllegalArgumentException.class,
+            () -> new BuyingOptionService(BuyingOptionRankings.lowestPrice(), 0), "A size of 0 should be rejected!");
+    }
+
+    private ProductV2.BuyingOption mockOption(String type, String merchant, BigDecimal price) {
+        ProductV2.BuyingOption option = mock(ProductV2.BuyingOption.class);
+        when(option.type()).thenReturn(type);
+        when(option.merchant()).thenReturn(merchant);
+        when(option.price()).thenReturn(price);
+        return option;
+    }
+}
@@ -0,0 +1,74 @@
+package com.kenzie.groupwork.productpage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ImageVariantIndexTest {
+
+    @Test
+    public void positionsOf_packedVariants_returnsPositionsInListOrder() {
+        // GIVEN
+        ImageVariantIndex index = ImageVariantIndex.ofVariants("MAIN", "PT01", null, "FRNT", "PT01", "BACK");
+
+        // WHEN - THEN
+        assertArrayEquals(new int[] {1, 4}, index.positionsOf("PT01"), "PT01 should be found twice, in order!");
+        assertEquals(3, index.firstPositionOf("FRNT"), "FRNT should be found!");
+        assertEquals(-1, index.firstPositionOf("TOPP"), "Missing variants should not be found!");
+        assertArrayEquals(new int[] {0, 1, 3, 4, 5}, index.positionsWithVariant(),
+            "Every image with a variant should be listed!");
+    }
+
+    @Test
+    public void lookPositions_packedAndUnpackedVariants_matchesContainsLook() {
+        // GIVEN
+        String[] variants = {null, "LOOK", "MAIN", "LOOK_ALT", "LOOK", "look", "PT\u00e9LOOK"};
+        ImageVariantIndex index = ImageVariantIndex.ofVariants(variants);
+
+        // WHEN
+        int[] lookPositions = index.lookPositions();
+
+        // THEN
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < variants.length; i++) {
+            if (variants[i] != null && variants[i].contains("LOOK")) {
+                expected.add(i);
+            }
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), lookPositions,
+            "LOOK positions should match a contains(\"LOOK\") scan!");
+    }
+
+    @Test
+    public void positionsOf_manyDistinctVariants_findsEveryVariant() {
+        // GIVEN
+        String[] variants = new String[100];
+        variants[0] = "MAIN";
+        for (int i = 1; i < variants.length; i++) {
+            variants[i] = String.format("PT%02d", i);
+        }
+        ImageVariantIndex index = ImageVariantIndex.ofVariants(variants);
+
+        // WHEN - THEN
+        for (int i = 0; i < variants.length; i++) {
+            assertEquals(i, index.firstPositionOf(variants[i]), variants[i] + " should be found at " + i + "!");
+        }
+    }
+
+    @Test
+    public void variantCode_fourAsciiCharacters_packsOneBytePerCharacter() {
+        // GIVEN - WHEN - THEN
+        assertEquals(('L' << 24) | ('O' << 16) | ('O' << 8) | 'K', ImageVariantIndex.variantCode("LOOK"),
+            "LOOK should pack one byte per character!");
+        assertEquals(ImageVariantIndex.NO_CODE, ImageVariantIndex.variantCode("LOOK2"),
+            "Longer variants should not be packed!");
+        assertEquals(ImageVariantIndex.NO_CODE, ImageVariantIndex.variantCode("PT\u00e91"),
+            "Non-ASCII variants should not be packed!");
+        assertEquals(ImageVariantIndex.NO_CODE, ImageVariantIndex.variantCode(null),
+            "Null variants should not be packed!");
+    }
+}
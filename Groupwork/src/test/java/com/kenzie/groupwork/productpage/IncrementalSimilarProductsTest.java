@@ -0,0 +1,211 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.NONPRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IncrementalSimilarProductsTest {
+
+    private static final PriceRangeOption PRICE_0_TO_25 = new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25);
+    private static final PrimeOption PRIME_ONLY = new PrimeOption(Collections.singletonList(PRIME));
+
+    private ProductV2 product;
+    private List<ProductV2> candidates;
+    private final SimilarProductsEngine engine = new SimilarProductsEngine();
+
+    @BeforeEach
+    public void setup() {
+        candidates = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            candidates.add(mockProduct("A" + i, BigDecimal.valueOf(i * 7 % 30), BigDecimal.valueOf(i % 3),
+                Collections.singletonList(i % 4 == 0 ? NONPRIME : PRIME)));
+        }
+        candidates.add(null);
+        product = mock(ProductV2.class);
+        when(product.asin()).thenReturn("MAIN");
+        when(product.getSimilarProducts()).thenReturn(candidates);
+    }
+
+    @Test
+    public void products_afterDeltas_matchRecomputedEngineResult() {
+        for (SortByEnum sortBy : SortByEnum.values()) {
+            // GIVEN
+            setup();
+            IncrementalSimilarProducts view = IncrementalSimilarProducts.of(product, sortBy, PRICE_0_TO_25,
+                PRIME_ONLY);
+            List<SimilarProductDelta> deltas = Arrays.asList(
+                SimilarProductDelta.priceChanged("A1", BigDecimal.valueOf(40)),
+                SimilarProductDelta.priceChanged("A2", BigDecimal.valueOf(3)),
+                SimilarProductDelta.shippingProgramsChanged("A4", Arrays.asList(NONPRIME, PRIME)),
+                SimilarProductDelta.shippingProgramsChanged("A5", Collections.singletonList(NONPRIME)),
+                SimilarProductDelta.validityChanged("A6", false),
+                SimilarProductDelta.priceChanged("A1", BigDecimal.valueOf(14)));
+
+            // WHEN
+            for (SimilarProductDelta delta : deltas) {
+                view.apply(delta);
+                applyToMock(delta);
+            }
+
+            // THEN
+            assertEquals(engine.getSimilarProducts(product, sortBy, PRICE_0_TO_25, PRIME_ONLY), unwrap(view.products()),
+                "Maintained products should match a recomputation for " + sortBy + "!");
+        }
+    }
+
+    @Test
+    public void products_afterDeltas_reportUpdatedValues() {
+        // GIVEN
+        IncrementalSimilarProducts view = IncrementalSimilarProducts.of(product, SortByEnum.PRICE_LOW_TO_HIGH,
+            PRICE_0_TO_25, PRIME_ONLY);
+
+        // WHEN
+        view.apply(SimilarProductDelta.priceChanged("A2", BigDecimal.valueOf(3)));
+        view.apply(SimilarProductDelta.shippingProgramsChanged("A2", Arrays.asList(NONPRIME, PRIME)));
+
+        // THEN
+        ProductV2 changed = view.products().get(0);
+        assertEquals("A2", changed.asin(), "Repriced product should move ahead of A9, also at $3!");
+        assertEquals(BigDecimal.valueOf(3), changed.getPrice(), "Product should report its new price!");
+        assertEquals(Arrays.asList(NONPRIME, PRIME), changed.getShippingPrograms(),
+            "Product should report its new shipping programs!");
+        assertSame(candidates.get(9), view.products().get(1), "Unchanged products should be returned as is!");
+    }
+
+    @Test
+    public void products_withoutChanges_returnsSameList() {
+        // GIVEN
+        IncrementalSimilarProducts view = IncrementalSimilarProducts.of(product, SortByEnum.PRICE_LOW_TO_HIGH,
+            PRICE_0_TO_25, PRIME_ONLY);
+        List<ProductV2> first = view.products();
+
+        // WHEN
+        boolean applied = view.apply(SimilarProductDelta.priceChanged("UNKNOWN", BigDecimal.ONE));
+
+        // THEN
+        assertFalse(applied, "Unknown ASIN should not be applied!");
+        assertSame(first, view.products(), "Unchanged view should not rebuild its list!");
+    }
+
+    @Test
+    public void views_apply_updatesEveryViewOfTheCandidate() {
+        // GIVEN
+        IncrementalSimilarProductsViews views = new IncrementalSimilarProductsViews();
+        IncrementalSimilarProducts byPrice = views.view(product, SortByEnum.PRICE_LOW_TO_HIGH, PRICE_0_TO_25,
+            PRIME_ONLY);
+        IncrementalSimilarProducts byReward = views.view(product, SortByEnum.REWARD_HIGH_TO_LOW, PRICE_0_TO_25,
+            PRIME_ONLY);
+
+        // WHEN
+        int applied = views.apply(SimilarProductDelta.validityChanged("A1", false));
+
+        // THEN
+        assertEquals(2, applied, "Both views should get the delta!");
+        assertSame(byPrice, views.view(product, SortByEnum.PRICE_LOW_TO_HIGH,
+            new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25), PRIME_ONLY), "Same options should share a view!");
+        assertFalse(byReward.products().contains(candidates.get(1)), "Invalid product should be removed!");
+    }
+
+    @Test
+    public void views_apply_onlyVisitsViewsWithTheCandidate() {
+        // GIVEN
+        IncrementalSimilarProductsViews views = new IncrementalSimilarProductsViews();
+        IncrementalSimilarProducts mainView = views.view(product, SortByEnum.PRICE_LOW_TO_HIGH, PRICE_0_TO_25,
+            PRIME_ONLY);
+        ProductV2 other = mock(ProductV2.class);
+        when(other.asin()).thenReturn("OTHER");
+        when(other.getSimilarProducts()).thenReturn(Collections.singletonList(candidates.get(3)));
+        views.view(other, SortByEnum.PRICE_LOW_TO_HIGH, PRICE_0_TO_25, PRIME_ONLY);
+
+        // WHEN
+        int appliedToOne = views.apply(SimilarProductDelta.validityChanged("A1", false));
+        int appliedToBoth = views.apply(SimilarProductDelta.validityChanged("A3", false));
+        views.remove("MAIN");
+        int appliedAfterRemove = views.apply(SimilarProductDelta.validityChanged("A1", true));
+
+        // THEN
+        assertEquals(1, appliedToOne, "Only the view with A1 should get its delta!");
+        assertEquals(2, appliedToBoth, "Both views with A3 should get its delta!");
+        assertEquals(0, appliedAfterRemove, "A removed view should no longer get deltas!");
+        assertFalse(mainView.products().stream().anyMatch(p -> "A1".equals(p.asin())),
+            "Removed view should not be updated!");
+        assertEquals(1, views.size(), "Only the other product's view should be kept!");
+    }
+
+    @Test
+    public void views_priceRangeSubclass_getsItsOwnView() {
+        // GIVEN
+        IncrementalSimilarProductsViews views = new IncrementalSimilarProductsViews();
+        PriceRangeOption everything = new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25) {
+            @Override
+            public boolean priceIsWithin(BigDecimal price) {
+                return true;
+            }
+        };
+        IncrementalSimilarProducts plain = views.view(product, SortByEnum.RELEVANCE, PRICE_0_TO_25, PRIME_ONLY);
+
+        // WHEN
+        IncrementalSimilarProducts custom = views.view(product, SortByEnum.RELEVANCE, everything, PRIME_ONLY);
+
+        // THEN
+        assertNotSame(plain, custom, "A subclass should not share the plain option's view!");
+        assertSame(custom, views.view(product, SortByEnum.RELEVANCE, everything, PRIME_ONLY),
+            "The same subclass instance should share its view!");
+        assertEquals(2, views.apply(SimilarProductDelta.validityChanged("A1", false)),
+            "Both views should get deltas!");
+    }
+
+    private static List<ProductV2> unwrap(List<ProductV2> products) {
+        return products.stream()
+            .map(p -> p instanceof HydratedProduct ? ((HydratedProduct) p).product() : p)
+            .collect(Collectors.toList());
+    }
+
+    private void applyToMock(SimilarProductDelta delta) {
+        ProductV2 candidate = candidates.get(Integer.parseInt(delta.getAsin().substring(1)));
+        switch (delta.getKind()) {
+            case PRICE:
+                when(candidate.getPrice()).thenReturn(delta.getPrice());
+                break;
+            case SHIPPING_PROGRAMS:
+                when(candidate.getShippingPrograms()).thenReturn(delta.getShippingPrograms());
+                break;
+            default:
+                when(candidate.isValid()).thenReturn(delta.isValid());
+                break;
+        }
+    }
+
+    private ProductV2 mockProduct(String asin, BigDecimal price, BigDecimal benefit,
+                                  List<ShippingProgramEnum> shipping) {
+        ProductV2 candidate = mock(ProductV2.class);
+        when(candidate.asin()).thenReturn(asin);
+        when(candidate.isValid()).thenReturn(true);
+        when(candidate.getPrice()).thenReturn(price);
+        when(candidate.getTotalBenefitAmount()).thenReturn(benefit);
+        when(candidate.getShippingPrograms()).thenReturn(shipping);
+        return candidate;
+    }
+}
@@ -0,0 +1,199 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalog;
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalogGenerator;
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIMENOW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OffHeapCandidateStoreTest {
+
+    private static final PrimeOption PRIME_ONLY = new PrimeOption(Arrays.asList(PRIME, PRIMENOW));
+    private static final PriceRangeOption ANY_PRICE = new PriceRangeOption(PriceRangeEnum.ANY);
+
+    @Test
+    public void query_everySortByAndPriceRange_matchesEngine() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(7L).generate(50, 200);
+        List<ProductV2> candidates = new ArrayList<>(catalog.product(3).getSimilarProducts());
+        candidates.add(null);
+        candidates.add(candidates.get(0));
+        OffHeapCandidateStore store = OffHeapCandidateStore.of(candidates);
+        SimilarProductsEngine engine = new SimilarProductsEngine(SimilarProductsSortMode.PRIMITIVE_KEYS);
+
+        for (SortByEnum sortBy : SortByEnum.values()) {
+            for (PriceRangeEnum range : PriceRangeEnum.values()) {
+                PriceRangeOption priceRange = new PriceRangeOption(range);
+
+                // WHEN
+                List<ProductV2> similarProducts = store.query(sortBy, priceRange, PRIME_ONLY, byRow(candidates));
+
+                // THEN
+                assertEquals(engine.findMatches(candidates, sortBy, priceRange, PRIME_ONLY), similarProducts,
+                    "Store should match the engine for " + sortBy + ", " + range + "!");
+            }
+        }
+    }
+
+    @Test
+    public void query_withLimit_resolvesOnlyThePageByAsin() {
+        // GIVEN
+        ProductV2 cheap = mockProduct("A1", BigDecimal.ONE);
+        ProductV2 expensive = mockProduct("A2", BigDecimal.TEN);
+        ProductV2 middle = mockProduct("A3", new BigDecimal("5.255"));
+        OffHeapCandidateStore store = OffHeapCandidateStore.of(Arrays.asList(cheap, expensive, middle));
+        Map<String, ProductV2> catalog = new HashMap<>();
+        catalog.put("A1", cheap);
+        catalog.put("A2", expensive);
+        catalog.put("A3", middle);
+        List<String> resolved = new ArrayList<>();
+
+        // WHEN
+        List<ProductV2> page = store.query(SortByEnum.PRICE_HIGH_TO_LOW, ANY_PRICE, PRIME_ONLY, 2, (row, asin) -> {
+            resolved.add(asin);
+            return catalog.get(asin);
+        });
+
+        // THEN
+        assertEquals(Arrays.asList(expensive, middle), page, "Only the first page should be returned!");
+        assertEquals(Arrays.asList("A2", "A3"), resolved, "Only the rows of the page should be resolved!");
+        assertEquals(new BigDecimal("5.255"), page.get(1).getPrice(), "Price should not be rounded!");
+    }
+
+    @Test
+    public void query_resolverReturnsNull_leavesTheRowOut() {
+        // GIVEN
+        List<ProductV2> candidates = Arrays.asList(mockProduct("A1", BigDecimal.ONE),
+            mockProduct("A2", BigDecimal.TEN));
+        OffHeapCandidateStore store = OffHeapCandidateStore.of(candidates);
+
+        // WHEN
+        List<ProductV2> similarProducts = store.query(SortByEnum.RELEVANCE, ANY_PRICE, PRIME_ONLY,
+            (row, asin) -> "A1".equals(asin) ? null : candidates.get(row));
+
+        // THEN
+        assertEquals(Collections.singletonList(candidates.get(1)), similarProducts,
+            "A product the resolver no longer has should be left out!");
+    }
+
+    @Test
+    public void query_candidateWithoutBenefit_keptLikeEngine() {
+        // GIVEN
+        ProductV2 noBenefit = mockProduct("A1", BigDecimal.TEN);
+        when(noBenefit.getTotalBenefitAmount()).thenReturn(null);
+        List<ProductV2> candidates = Arrays.asList(mockProduct("A2", BigDecimal.ONE), noBenefit);
+        OffHeapCandidateStore store = OffHeapCandidateStore.of(candidates);
+        SimilarProductsEngine engine = new SimilarProductsEngine();
+
+        for (SortByEnum sortBy : Arrays.asList(SortByEnum.RELEVANCE, SortByEnum.PRICE_LOW_TO_HIGH,
+                SortByEnum.PRICE_HIGH_TO_LOW)) {
+            // WHEN
+            List<ProductV2> similarProducts = store.query(sortBy, ANY_PRICE, PRIME_ONLY, byRow(candidates));
+
+            // THEN
+            assertEquals(engine.findMatches(candidates, sortBy, ANY_PRICE, PRIME_ONLY), similarProducts,
+                "A candidate without benefit should be kept for " + sortBy + "!");
+        }
+        assertEquals(Arrays.asList(noBenefit, candidates.get(0)),
+            store.query(SortByEnum.REWARD_LOW_TO_HIGH, ANY_PRICE, PRIME_ONLY, byRow(candidates)),
+            "A missing benefit should sort as zero!");
+    }
+
+    @Test
+    public void query_candidateWithoutAsin_resolvesByRowWithNullAsin() {
+        // GIVEN
+        List<ProductV2> candidates = Arrays.asList(mockProduct(null, BigDecimal.ONE),
+            mockProduct(null, BigDecimal.ONE));
+        OffHeapCandidateStore store = OffHeapCandidateStore.of(candidates);
+        List<String> asins = new ArrayList<>();
+
+        // WHEN
+        List<ProductV2> similarProducts = store.query(SortByEnum.RELEVANCE, ANY_PRICE, PRIME_ONLY, (row, asin) -> {
+            asins.add(asin);
+            return candidates.get(row);
+        });
+
+        // THEN
+        assertEquals(candidates, similarProducts, "Candidates without ASIN should not be deduplicated!");
+        assertEquals(Arrays.asList(null, null), asins, "Missing ASIN should stay null!");
+    }
+
+    @Test
+    public void query_fractionOfACentUnderBoundary_matchesPriceIsWithin() {
+        // GIVEN
+        List<ProductV2> candidates = Collections.singletonList(mockProduct("B1", new BigDecimal("24.995")));
+        OffHeapCandidateStore store = OffHeapCandidateStore.of(candidates);
+
+        // WHEN
+        List<ProductV2> under25 = store.query(SortByEnum.RELEVANCE,
+            new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25), PRIME_ONLY, byRow(candidates));
+        List<ProductV2> from25 = store.query(SortByEnum.RELEVANCE,
+            new PriceRangeOption(PriceRangeEnum.PRICE_25_TO_50), PRIME_ONLY, byRow(candidates));
+
+        // THEN
+        assertEquals(1, under25.size(), "$24.995 should be under $25!");
+        assertTrue(from25.isEmpty(), "$24.995 should not be in the $25 to $50 range!");
+    }
+
+    @Test
+    public void query_primeOptionAcceptingNoPrograms_returnsNothing() {
+        // GIVEN
+        List<ProductV2> candidates = Arrays.asList(mockProduct("A1", BigDecimal.ONE),
+            mockProduct("A2", BigDecimal.TEN));
+        OffHeapCandidateStore store = OffHeapCandidateStore.of(candidates);
+        PrimeOption noPrograms = new PrimeOption(Collections.emptyList());
+
+        // WHEN
+        List<ProductV2> similarProducts = store.query(SortByEnum.RELEVANCE, ANY_PRICE, noPrograms,
+            byRow(candidates));
+
+        // THEN
+        assertTrue(similarProducts.isEmpty(), "No candidate should match a prime option accepting no programs!");
+        assertEquals(new SimilarProductsEngine().findMatches(candidates, SortByEnum.RELEVANCE, ANY_PRICE,
+            noPrograms), similarProducts, "Store should match the engine!");
+    }
+
+    @Test
+    public void query_negativeLimit_throwsIllegalArgumentException() {
+        // GIVEN
+        OffHeapCandidateStore store = OffHeapCandidateStore.of(Collections.emptyList());
+
+        // WHEN - THEN
+        assertThrows(IllegalArgumentException.class, () -> store.query(SortByEnum.RELEVANCE, ANY_PRICE, PRIME_ONLY,
+            -1, (row, asin) -> null), "A negative limit should be rejected!");
+    }
+
+    private static OffHeapCandidateStore.CandidateResolver byRow(List<ProductV2> candidates) {
+        return (row, asin) -> candidates.get(row);
+    }
+
+    private ProductV2 mockProduct(String asin, BigDecimal price) {
+        ProductV2 product = mock(ProductV2.class);
+        when(product.asin()).thenReturn(asin);
+        when(product.isValid()).thenReturn(true);
+        when(product.getPrice()).thenReturn(price);
+        when(product.getTotalBenefitAmount()).thenReturn(BigDecimal.ONE);
+        when(product.getShippingPrograms()).thenReturn(Collections.singletonList(PRIME));
+        return product;
+    }
+}
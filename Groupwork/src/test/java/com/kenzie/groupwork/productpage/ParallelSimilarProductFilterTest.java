@@ -0,0 +1,117 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.NONPRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParallelSimilarProductFilterTest {
+
+    private static final SimilarProductFilter PRIME_UNDER_25 = SimilarProductFilter.of(
+        new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25), new PrimeOption(Collections.singletonList(PRIME)));
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setup() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void filter_acrossManyChunks_matchesSequentialFilterOrder() {
+        // GIVEN
+        List<ProductV2> candidates = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            candidates.add(i % 7 == 0 ? null : mockProduct("A" + i % 20, BigDecimal.valueOf(i % 40),
+                i % 3 == 0 ? NONPRIME : PRIME));
+        }
+        ParallelSimilarProductFilter parallelFilter = new ParallelSimilarProductFilter(pool, 3);
+
+        // WHEN
+        List<ProductV2> matchingProducts = parallelFilter.filter(candidates, PRIME_UNDER_25);
+
+        // THEN
+        assertEquals(sequentialFilter(candidates), matchingProducts,
+            "Parallel filter should match the sequential filter, in candidate order!");
+    }
+
+    @Test
+    public void filter_duplicateAsinInLaterChunk_keepsFirstProduct() {
+        // GIVEN
+        ProductV2 first = mockProduct("A1", BigDecimal.TEN, PRIME);
+        ProductV2 other = mockProduct("A2", BigDecimal.ONE, PRIME);
+        ProductV2 duplicate = mockProduct("A1", BigDecimal.ONE, PRIME);
+        ParallelSimilarProductFilter parallelFilter = new ParallelSimilarProductFilter(pool, 1);
+
+        // WHEN
+        List<ProductV2> matchingProducts = parallelFilter.filter(
+            new LinkedList<>(Arrays.asList(first, other, duplicate)), PRIME_UNDER_25);
+
+        // THEN
+        assertEquals(Arrays.asList(first, other), matchingProducts, "Only the first product per ASIN should remain!");
+    }
+
+    @Test
+    public void filter_noCandidates_returnsEmptyList() {
+        // GIVEN
+        ParallelSimilarProductFilter parallelFilter = new ParallelSimilarProductFilter(pool, 4);
+
+        // WHEN
+        List<ProductV2> matchingProducts = parallelFilter.filter(Collections.emptyList(), PRIME_UNDER_25);
+
+        // THEN
+        assertEquals(Collections.emptyList(), matchingProducts, "No candidates should give an empty List!");
+    }
+
+    @Test
+    public void constructor_nonPositiveChunkSize_throwsIllegalArgumentException() {
+        // GIVEN - WHEN - THEN
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSimilarProductFilter(pool, 0),
+            "A chunk size of 0 should be rejected!");
+    }
+
+    private List<ProductV2> sequentialFilter(List<ProductV2> candidates) {
+        UniqueAsins uniqueAsins = new UniqueAsins();
+        List<ProductV2> matchingProducts = new ArrayList<>();
+        for (ProductV2 candidate : candidates) {
+            if (PRIME_UNDER_25.matches(candidate) && uniqueAsins.add(candidate)) {
+                matchingProducts.add(candidate);
+            }
+        }
+        return matchingProducts;
+    }
+
+    private ProductV2 mockProduct(String asin, BigDecimal price, ShippingProgramEnum shipping) {
+        ProductV2 product = mock(ProductV2.class);
+        when(product.asin()).thenReturn(asin);
+        when(product.isValid()).thenReturn(true);
+        when(product.getPrice()).thenReturn(price);
+        when(product.getShippingPrograms()).thenReturn(Collections.singletonList(shipping));
+        return product;
+    }
+}
@@ -0,0 +1,105 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PriceBucketIndexTest {
+
+    @Test
+    public void productsWithin_boundaryPrice_isInBothNeighbouringBuckets() {
+        // GIVEN
+        ProductV2 boundary = mockProduct(BigDecimal.valueOf(25));
+        PriceBucketIndex index = PriceBucketIndex.of(Collections.singletonList(boundary));
+
+        // WHEN
+        List<ProductV2> under25 = index.productsWithin(PriceRangeEnum.PRICE_0_TO_25);
+        List<ProductV2> from25 = index.productsWithin(PriceRangeEnum.PRICE_25_TO_50);
+
+        // THEN
+        assertEquals(Collections.singletonList(boundary), under25, "$25 should be in the under $25 bucket!");
+        assertEquals(Collections.singletonList(boundary), from25, "$25 should be in the $25 to $50 bucket!");
+    }
+
+    @Test
+    public void productsWithin_fractionOfACentOverBoundary_matchesPriceIsWithin() {
+        // GIVEN
+        ProductV2 justOver = mockProduct(new BigDecimal("25.001"));
+        PriceBucketIndex index = PriceBucketIndex.of(Collections.singletonList(justOver));
+
+        // WHEN
+        List<ProductV2> under25 = index.productsWithin(PriceRangeEnum.PRICE_0_TO_25);
+
+        // THEN
+        assertTrue(under25.isEmpty(), "$25.001 should not be under $25!");
+        assertEquals(new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25).priceIsWithin(new BigDecimal("25.001")),
+            !under25.isEmpty(), "Bucket should match priceIsWithin!");
+    }
+
+    @Test
+    public void productsWithin_fractionOfACentUnderBoundary_matchesPriceIsWithin() {
+        // GIVEN
+        BigDecimal price = new BigDecimal("24.995");
+        ProductV2 justUnder = mockProduct(price);
+        PriceBucketIndex index = PriceBucketIndex.of(Collections.singletonList(justUnder));
+
+        // WHEN
+        List<ProductV2> under25 = index.productsWithin(PriceRangeEnum.PRICE_0_TO_25);
+        List<ProductV2> from25 = index.productsWithin(PriceRangeEnum.PRICE_25_TO_50);
+
+        // THEN
+        assertEquals(Collections.singletonList(justUnder), under25, "$24.995 should be under $25!");
+        assertTrue(from25.isEmpty(), "$24.995 should not be in the $25 to $50 bucket!");
+        assertEquals(new PriceRangeOption(PriceRangeEnum.PRICE_25_TO_50).priceIsWithin(price),
+            !from25.isEmpty(), "Bucket should match priceIsWithin!");
+    }
+
+    @Test
+    public void productsWithin_mixedPrices_keepsListOrderInEachBucket() {
+        // GIVEN
+        ProductV2 product1 = mockProduct(BigDecimal.valueOf(250));
+        ProductV2 product2 = mockProduct(BigDecimal.valueOf(30));
+        ProductV2 product3 = mockProduct(BigDecimal.valueOf(45.99));
+        ProductV2 noPrice = mockProduct(null);
+        PriceBucketIndex index = PriceBucketIndex.of(Arrays.asList(product1, null, product2, noPrice, product3));
+
+        // WHEN
+        List<ProductV2> any = index.productsWithin(new PriceRangeOption(PriceRangeEnum.ANY));
+        List<ProductV2> from25 = index.productsWithin(new PriceRangeOption(PriceRangeEnum.PRICE_25_TO_50));
+        List<ProductV2> from200 = index.productsWithin(new PriceRangeOption(PriceRangeEnum.PRICE_200_TO_ANY));
+
+        // THEN
+        assertEquals(Arrays.asList(product1, product2, product3), any, "ANY should hold every priced product!");
+        assertEquals(Arrays.asList(product2, product3), from25, "Bucket should keep list order!");
+        assertEquals(Collections.singletonList(product1), from200, "Bucket should hold products over $200!");
+    }
+
+    @Test
+    public void of_nullList_returnsEmptyBuckets() {
+        // WHEN
+        PriceBucketIndex index = PriceBucketIndex.of(null);
+
+        // THEN
+        for (PriceRangeEnum range : PriceRangeEnum.values()) {
+            assertTrue(index.productsWithin(range).isEmpty(), "Null list should have empty buckets!");
+        }
+    }
+
+    private ProductV2 mockProduct(BigDecimal price) {
+        ProductV2 product = mock(ProductV2.class);
+        when(product.getPrice()).thenReturn(price);
+        return product;
+    }
+}
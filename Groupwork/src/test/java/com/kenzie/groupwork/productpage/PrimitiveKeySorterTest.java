@@ -0,0 +1,46 @@
+package com.kenzie.groupwork.productpage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class PrimitiveKeySorterTest {
+
+    @Test
+    public void sortPositions_ascendingWithTies_keepsTiesInOriginalOrder() {
+        // GIVEN
+        long[] keys = {500, 100, 500, 300, 100};
+
+        // WHEN
+        int[] positions = PrimitiveKeySorter.sortPositions(keys, false);
+
+        // THEN
+        assertArrayEquals(new int[] {1, 4, 3, 0, 2}, positions, "Ties should keep their original order!");
+    }
+
+    @Test
+    public void sortPositions_descendingWithTies_keepsTiesInOriginalOrder() {
+        // GIVEN
+        long[] keys = {500, 100, 500, 300, 100};
+
+        // WHEN
+        int[] positions = PrimitiveKeySorter.sortPositions(keys, true);
+
+        // THEN
+        assertArrayEquals(new int[] {0, 2, 3, 1, 4}, positions, "Ties should keep their original order!");
+    }
+
+    @Test
+    public void sortPositions_keyRangeTooWideToPack_sortsStably() {
+        // GIVEN
+        long[] keys = {Long.MAX_VALUE, Long.MIN_VALUE, 0, Long.MAX_VALUE, Long.MIN_VALUE};
+
+        // WHEN
+        int[] ascending = PrimitiveKeySorter.sortPositions(keys, false);
+        int[] descending = PrimitiveKeySorter.sortPositions(keys, true);
+
+        // THEN
+        assertArrayEquals(new int[] {1, 4, 2, 0, 3}, ascending, "Wide keys should sort ascending!");
+        assertArrayEquals(new int[] {0, 3, 2, 1, 4}, descending, "Wide keys should sort descending!");
+    }
+}
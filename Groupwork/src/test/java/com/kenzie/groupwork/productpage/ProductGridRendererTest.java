@@ -0,0 +1,100 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalog;
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalogGenerator;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProductGridRendererTest {
+
+    private static final Integer LONGEST = 160;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setup() {
+        pool = new ForkJoinPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void render_searchGrid_matchesProductPageInInputOrder() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(11L).generate(96, 1);
+        List<ProductV2> products = catalog.products();
+        ProductGridRenderer renderer = new ProductGridRenderer(pool, 4, new StyledMediaUrlCache(), null);
+
+        // WHEN
+        List<ProductGridCell> cells = renderer.render(products, LONGEST);
+
+        // THEN
+        assertEquals(products.size(), cells.size(), "Every product should have a cell!");
+        for (int i = 0; i < products.size(); i++) {
+            ProductPage productPage = new ProductPage(products.get(i));
+            assertEquals(products.get(i), cells.get(i).getProduct(), "Cell " + i + " should keep input order!");
+            assertEquals(productPage.getFirstBuyingOption().map(ProductV2.BuyingOption::price),
+                cells.get(i).getBuyingOption().map(ProductV2.BuyingOption::price),
+                "Cell " + i + " should have the first buying option!");
+            assertEquals(productPage.extractMainImageUrl(LONGEST), cells.get(i).getMainImageUrl(),
+                "Cell " + i + " should have the main image URL!");
+        }
+    }
+
+    @Test
+    public void render_withBuyingOptionService_usesServiceWinner() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(11L).generate(20, 1);
+        BuyingOptionService service = new BuyingOptionService(BuyingOptionRankings.lowestPrice());
+        ProductGridRenderer renderer = new ProductGridRenderer(pool, 1, null, service);
+
+        // WHEN
+        List<ProductGridCell> cells = renderer.render(catalog.products(), LONGEST);
+
+        // THEN
+        for (ProductGridCell cell : cells) {
+            assertSame(service.winner(cell.getProduct()).orElse(null), cell.getBuyingOption().orElse(null),
+                "Cell should use the service's cached winner!");
+        }
+    }
+
+    @Test
+    public void render_nullProductInSmallGrid_givesEmptyCell() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(11L).generate(2, 1);
+        List<ProductV2> products = new ArrayList<>(Arrays.asList(catalog.product(0), null, catalog.product(1)));
+
+        // WHEN
+        List<ProductGridCell> cells = new ProductGridRenderer().render(products, LONGEST);
+
+        // THEN
+        assertNull(cells.get(1).getProduct(), "Null product should give a cell without product!");
+        assertFalse(cells.get(1).getMainImageUrl().isPresent(), "Null product should have no image!");
+        assertEquals(catalog.product(1), cells.get(2).getProduct(), "Later cells should keep input order!");
+    }
+
+    @Test
+    public void constructor_nonPositiveLeafSize_throwsIllegalArgumentException() {
+        // GIVEN - WHEN - THEN
+        assertThrows(IllegalArgumentException.class, () -> new ProductGridRenderer(pool, 0, null, null),
+            "A leaf size of 0 should be rejected!");
+    }
+}
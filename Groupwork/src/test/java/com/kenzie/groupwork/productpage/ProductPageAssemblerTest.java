@@ -0,0 +1,168 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProductPageAssemblerTest {
+
+    private static final int TEST_LONG_DIMENSION = 120;
+    private static final PriceRangeOption ANY_PRICE = new PriceRangeOption(PriceRangeEnum.ANY);
+
+    private ProductV2 productV2;
+    private QueuedExecutor executor;
+
+    @BeforeEach
+    public void setup() {
+        productV2 = mock(ProductV2.class);
+        ProductV2.BuyingOption buyingOption = mock(ProductV2.BuyingOption.class);
+        ProductImagesV2 productImages = mock(ProductImagesV2.class);
+        ProductImagesV2.Image main = mockImage("MAIN", 200, 200);
+        ProductImagesV2.Image look = mockImage("LOOK", 100, 200);
+        ProductV2 similarProduct = mock(ProductV2.class);
+        when(similarProduct.asin()).thenReturn("A1");
+        when(similarProduct.isValid()).thenReturn(true);
+        when(similarProduct.getPrice()).thenReturn(BigDecimal.TEN);
+        when(similarProduct.getShippingPrograms()).thenReturn(Collections.singletonList(PRIME));
+        when(productImages.images()).thenReturn(Arrays.asList(main, look));
+        when(productV2.productImages()).thenReturn(Optional.of(productImages));
+        when(productV2.buyingOptions()).thenReturn(Collections.singletonList(buyingOption));
+        when(productV2.getSimilarProducts()).thenReturn(Collections.singletonList(similarProduct));
+        executor = new QueuedExecutor();
+    }
+
+    @Test
+    public void assemble_beforeAnySectionIsRequested_computesNothing() {
+        // GIVEN - WHEN
+        new ProductPageAssembler(executor).assemble(productV2, TEST_LONG_DIMENSION, SortByEnum.RELEVANCE,
+            ANY_PRICE, PrimeOption.ANY_SHIPPING);
+
+        // THEN
+        assertTrue(executor.tasks.isEmpty(), "No section should be started!");
+        verify(productV2, never()).getSimilarProducts();
+    }
+
+    @Test
+    public void all_matchesProductPage() {
+        // GIVEN
+        AssembledProductPage page = new ProductPageAssembler(Runnable::run).assemble(productV2, TEST_LONG_DIMENSION,
+            SortByEnum.PRICE_LOW_TO_HIGH, ANY_PRICE, PrimeOption.ANY_SHIPPING);
+        ProductPage productPage = new ProductPage(productV2);
+
+        // WHEN
+        ProductPageSections sections = page.all().join();
+
+        // THEN
+        assertEquals(productPage.getFirstBuyingOption(), sections.getFirstBuyingOption(),
+            "First buying option should match ProductPage!");
+        assertEquals(productPage.extractMainImageUrl(TEST_LONG_DIMENSION), sections.getMainImageUrl(),
+            "Main image URL should match ProductPage!");
+        assertEquals(productPage.extractLookImageUrl(TEST_LONG_DIMENSION), sections.getLookImageUrl(),
+            "LOOK image URL should match ProductPage!");
+        assertEquals(productPage.getSimilarProducts(SortByEnum.PRICE_LOW_TO_HIGH, ANY_PRICE,
+            PrimeOption.ANY_SHIPPING), sections.getSimilarProducts(), "Similar products should match ProductPage!");
+    }
+
+    @Test
+    public void all_slowSimilarProducts_cheapSectionsCompleteFirst() {
+        // GIVEN
+        AssembledProductPage page = new ProductPageAssembler(executor).assemble(productV2, TEST_LONG_DIMENSION,
+            SortByEnum.RELEVANCE, ANY_PRICE, PrimeOption.ANY_SHIPPING);
+        CompletableFuture<ProductPageSections> all = page.all();
+
+        // WHEN
+        executor.runNext();
+        executor.runNext();
+        executor.runNext();
+
+        // THEN
+        assertTrue(page.firstBuyingOption().isDone(), "First buying option should be done!");
+        assertTrue(page.mainImageUrl().isDone(), "Main image URL should be done!");
+        assertTrue(page.lookImageUrl().isDone(), "LOOK image URL should be done!");
+        assertFalse(page.similarProducts().isDone(), "Similar products should still be pending!");
+        assertFalse(all.isDone(), "The whole page should wait for the similar products!");
+
+        executor.runNext();
+        assertTrue(all.isDone(), "The whole page should be done once every section is!");
+    }
+
+    @Test
+    public void section_requestedTwice_startsOnce() {
+        // GIVEN
+        AssembledProductPage page = new ProductPageAssembler(executor).assemble(productV2, TEST_LONG_DIMENSION,
+            SortByEnum.RELEVANCE, ANY_PRICE, PrimeOption.ANY_SHIPPING);
+
+        // WHEN
+        CompletableFuture<Optional<String>> first = page.mainImageUrl();
+        CompletableFuture<Optional<String>> second = page.mainImageUrl();
+
+        // THEN
+        assertSame(first, second, "The same section should return the same future!");
+        assertEquals(1, executor.tasks.size(), "The section should be started once!");
+    }
+
+    @Test
+    public void all_sectionThrows_onlyThatSectionFails() {
+        // GIVEN
+        when(productV2.buyingOptions()).thenThrow(new IllegalStateException("offer service down"));
+        AssembledProductPage page = new ProductPageAssembler(Runnable::run).assemble(productV2, TEST_LONG_DIMENSION,
+            SortByEnum.RELEVANCE, ANY_PRICE, PrimeOption.ANY_SHIPPING);
+
+        // WHEN
+        CompletableFuture<ProductPageSections> all = page.all();
+
+        // THEN
+        assertTrue(page.firstBuyingOption().isCompletedExceptionally(), "Failing section should fail!");
+        assertTrue(page.mainImageUrl().join().isPresent(), "Other sections should still complete!");
+        assertTrue(all.isCompletedExceptionally(), "The whole page should fail with its section!");
+    }
+
+    private ProductImagesV2.Image mockImage(String variant, int width, int height) {
+        ProductImagesV2.Image image = mock(ProductImagesV2.Image.class);
+        when(image.variant()).thenReturn(variant);
+        when(image.lowRes()).thenReturn(new StyledMedia.Builder(width, height).build());
+        return image;
+    }
+
+    /**
+     * Holds tasks until the test runs them, in submission order.
+     */
+    private static class QueuedExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runNext() {
+            tasks.remove().run();
+        }
+    }
+}
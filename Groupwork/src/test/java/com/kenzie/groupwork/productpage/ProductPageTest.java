@@ -1,5 +1,8 @@
 package com.kenzie.groupwork.productpage;
 
+import com.kenzie.groupwork.productpage.metrics.ProductPageOperation;
+import com.kenzie.groupwork.productpage.metrics.RecordingProductPageMetrics;
+import com.kenzie.groupwork.productpage.metrics.SimilarProductsStage;
 import com.kenzie.groupwork.productpage.types.PriceRangeOption;
 import com.kenzie.groupwork.productpage.types.PrimeOption;
 import com.kenzie.groupwork.productpage.types.ProductImagesV2;
@@ -7,6 +10,7 @@ import com.kenzie.groupwork.productpage.types.ProductV2;
 import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
 import com.kenzie.groupwork.productpage.types.SortByEnum;
 import com.kenzie.groupwork.productpage.types.StyledMedia;
+import com.kenzie.groupwork.productpage.types.StyledMediaUrlCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +32,7 @@ import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.UNKNOWN
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -143,6 +148,29 @@ public class ProductPageTest {
         assertEquals(expectedUrl, actualUrl, "extractMainImageUrl should return URL for main image!");
     }
 
+    @Test
+    public void extractMainImageUrl_withUrlCache_returnsCachedImageUrl() {
+        // GIVEN
+        StyledMediaUrlCache urlCache = new StyledMediaUrlCache();
+        productPage = new ProductPage(productV2, urlCache);
+        ProductImagesV2 mockImagesV2 = mock(ProductImagesV2.class);
+        when(productV2.productImages()).thenReturn(Optional.of(mockImagesV2));
+        when(mockImagesV2.images()).thenReturn(Arrays.asList(mockMainImage, mockLookImage1));
+
+        // WHEN
+        Optional<String> firstUrl = productPage.extractMainImageUrl(TEST_LONG_DIMENSION);
+        Optional<String> secondUrl = productPage.extractMainImageUrl(TEST_LONG_DIMENSION);
+
+        // THEN
+        String expectedUrl = lookMedia.styleBuilder()
+            .scaleToLongest(TEST_LONG_DIMENSION)
+            .build()
+            .url();
+        assertEquals(Optional.of(expectedUrl), firstUrl, "Cached URL should match the built URL!");
+        assertEquals(firstUrl, secondUrl, "Repeated calls should return the same URL!");
+        assertEquals(1, urlCache.stats().hitCount(), "Repeated call should be served from the cache!");
+    }
+
     @Test
     public void extractMainImageUrl_withEmptyImageList_returnsEmptyOptional() {
         // GIVEN
@@ -572,6 +600,118 @@ public class ProductPageTest {
         assertEquals(similarProduct2, similarProducts.get(1), "Products should be orderd by high to low reward!");
     }
 
+    @Test
+    public void getSimilarProducts_withLimitAndPriceHighToLowSort_returnsTopProducts() {
+        // GIVEN
+        ProductV2 product4 = mockProduct(BigDecimal.valueOf(3.0), BigDecimal.ONE, Collections.singletonList(PRIME));
+        when(similarProduct1.getPrice()).thenReturn(BigDecimal.valueOf(2.0));
+        when(similarProduct2.getPrice()).thenReturn(BigDecimal.valueOf(1.0));
+        when(similarProduct3.getPrice()).thenReturn(BigDecimal.valueOf(3.0));
+        when(productV2.getSimilarProducts()).thenReturn(
+            Arrays.asList(similarProduct1, similarProduct2, similarProduct3, product4));
+
+        // WHEN
+        List<ProductV2> similarProducts = productPage.getSimilarProducts(SortByEnum.PRICE_HIGH_TO_LOW,
+            priceFilter,
+            shippingFilter,
+            3);
+
+        // THEN
+        assertEquals(3, similarProducts.size(), "Similar products should be cut to the limit!");
+        assertEquals(similarProduct3, similarProducts.get(0), "Equal prices should keep their original order!");
+        assertEquals(product4, similarProducts.get(1), "Equal prices should keep their original order!");
+        assertEquals(similarProduct1, similarProducts.get(2), "Similar products should be sorted high to low!");
+    }
+
+    @Test
+    public void getSimilarProducts_withLimitAndRelevanceSort_returnsFirstProductsInOriginalOrder() {
+        // GIVEN
+        when(productV2.getSimilarProducts()).thenReturn(
+            Arrays.asList(similarProduct2, similarProduct3, similarProduct1));
+
+        // WHEN
+        List<ProductV2> similarProducts = productPage.getSimilarProducts(SortByEnum.RELEVANCE,
+            priceFilter,
+            shippingFilter,
+            2);
+
+        // THEN
+        assertEquals(2, similarProducts.size(), "Similar products should be cut to the limit!");
+        assertEquals(similarProduct2, similarProducts.get(0), "Similar products should retain original order!");
+        assertEquals(similarProduct3, similarProducts.get(1), "Similar products should retain original order!");
+    }
+
+    @Test
+    public void getSimilarProducts_withLimitLargerThanMatches_returnsAllSortedProducts() {
+        // GIVEN
+        when(similarProduct1.getTotalBenefitAmount()).thenReturn(BigDecimal.valueOf(2.0));
+        when(similarProduct2.getTotalBenefitAmount()).thenReturn(BigDecimal.valueOf(1.0));
+        when(similarProduct3.getTotalBenefitAmount()).thenReturn(BigDecimal.valueOf(3.0));
+
+        // WHEN
+        List<ProductV2> similarProducts = productPage.getSimilarProducts(SortByEnum.REWARD_LOW_TO_HIGH,
+            priceFilter,
+            shippingFilter,
+            24);
+
+        // THEN
+        assertEquals(Arrays.asList(similarProduct2, similarProduct1, similarProduct3), similarProducts,
+            "Similar products should be sorted low to high reward!");
+    }
+
+    @Test
+    public void getSimilarProducts_withMetrics_recordsStageCountsAndLatency() {
+        // GIVEN
+        RecordingProductPageMetrics metrics = new RecordingProductPageMetrics();
+        productPage = new ProductPage(productV2, null, metrics);
+        when(similarProduct2.isValid()).thenReturn(false);
+        when(priceFilter.priceIsWithin(BigDecimal.ONE)).thenReturn(false);
+        when(similarProduct3.getPrice()).thenReturn(BigDecimal.ONE);
+        when(productV2.getSimilarProducts()).thenReturn(
+            Arrays.asList(similarProduct1, null, similarProduct2, similarProduct3, similarProduct1));
+
+        // WHEN
+        List<ProductV2> similarProducts = productPage.getSimilarProducts(SortByEnum.RELEVANCE, priceFilter,
+            shippingFilter);
+
+        // THEN
+        assertEquals(Collections.singletonList(similarProduct1), similarProducts, "Filtering should be unchanged!");
+        assertEquals(5, metrics.getStageCount(SimilarProductsStage.CANDIDATES), "Every candidate should count!");
+        assertEquals(3, metrics.getStageCount(SimilarProductsStage.VALID), "Null and invalid should be dropped!");
+        assertEquals(2, metrics.getStageCount(SimilarProductsStage.PRICE_IN_RANGE), "Out of range should drop!");
+        assertEquals(1, metrics.getStageCount(SimilarProductsStage.SHIPPING_MATCHED), "Duplicates should drop!");
+        assertEquals(1, metrics.getLatency(ProductPageOperation.GET_SIMILAR_PRODUCTS).getCount(),
+            "One call should be timed!");
+        assertEquals(0, metrics.getLatency(ProductPageOperation.GET_FIRST_BUYING_OPTION).getCount(),
+            "Other operations should not be timed!");
+    }
+
+    @Test
+    public void extractLookImageUrl_withMetrics_recordsStyledMediaBuildsAndLatency() {
+        // GIVEN
+        RecordingProductPageMetrics metrics = new RecordingProductPageMetrics();
+        productPage = new ProductPage(productV2, null, metrics);
+        ProductImagesV2 mockImagesV2 = mock(ProductImagesV2.class);
+        when(productV2.productImages()).thenReturn(Optional.of(mockImagesV2));
+        when(mockImagesV2.images()).thenReturn(Arrays.asList(mockMainImage, mockLookImage1, mockLookImage2));
+
+        // WHEN
+        productPage.extractLookImageUrl(TEST_LONG_DIMENSION);
+        productPage.extractLookImageUrl(TEST_LONG_DIMENSION);
+
+        // THEN
+        assertEquals(2, metrics.getStyledMediaBuilds(), "Each call should build only the first LOOK image!");
+        assertEquals(2, metrics.getLatency(ProductPageOperation.EXTRACT_LOOK_IMAGE_URL).getCount(),
+            "Both calls should be timed!");
+    }
+
+    @Test
+    public void constructor_nullMetrics_throwsNullPointerException() {
+        // GIVEN - WHEN - THEN
+        assertThrows(NullPointerException.class, () -> new ProductPage(productV2, null, null),
+            "A null metrics sink should be rejected!");
+    }
+
     /**
      * Helper method to mock all the calls required for a product.
      * @param price The value returned by getPrice()
@@ -0,0 +1,165 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.metrics.ProductPageOperation;
+import com.kenzie.groupwork.productpage.metrics.RecordingProductPageMetrics;
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalog;
+import com.kenzie.groupwork.productpage.synthetic.SyntheticCatalogGenerator;
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIMENOW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class ProductSnapshotTest {
+
+    private static final int TEST_LONG_DIMENSION = 120;
+
+    @Test
+    public void productPage_syntheticProducts_matchesProductPageForEveryQuery() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(11L).generate(2_000, 30);
+        List<PrimeOption> primeOptions = Arrays.asList(PrimeOption.ANY_SHIPPING,
+            new PrimeOption(Arrays.asList(PRIME, PRIMENOW)));
+
+        for (int id = 0; id < 40; id++) {
+            ProductV2 product = catalog.product(id);
+            ProductPage productPage = new ProductPage(product);
+
+            // WHEN
+            ProductPage snapshotPage = ProductSnapshot.of(product).productPage();
+
+            // THEN
+            assertEquals(productPage.getFirstBuyingOption().map(ProductV2.BuyingOption::price),
+                snapshotPage.getFirstBuyingOption().map(ProductV2.BuyingOption::price),
+                "First buying option should match for product " + id + "!");
+            assertEquals(productPage.extractMainImageUrl(TEST_LONG_DIMENSION),
+                snapshotPage.extractMainImageUrl(TEST_LONG_DIMENSION), "Main image should match for " + id + "!");
+            assertEquals(productPage.extractLookImageUrl(TEST_LONG_DIMENSION),
+                snapshotPage.extractLookImageUrl(TEST_LONG_DIMENSION), "LOOK image should match for " + id + "!");
+            for (SortByEnum sortBy : SortByEnum.values()) {
+                for (PriceRangeEnum range : PriceRangeEnum.values()) {
+                    for (PrimeOption primeOption : primeOptions) {
+                        PriceRangeOption priceRange = new PriceRangeOption(range);
+                        assertEquals(productPage.getSimilarProducts(sortBy, priceRange, primeOption),
+                            snapshotPage.getSimilarProducts(sortBy, priceRange, primeOption),
+                            "Similar products should match for " + id + ", " + sortBy + ", " + range + "!");
+                        assertEquals(productPage.getSimilarProducts(sortBy, priceRange, primeOption, 3),
+                            snapshotPage.getSimilarProducts(sortBy, priceRange, primeOption, 3),
+                            "First page should match for " + id + ", " + sortBy + ", " + range + "!");
+                        SimilarProductsQuery query = SimilarProductsQuery.compile(sortBy, priceRange, primeOption);
+                        assertEquals(productPage.getSimilarProducts(query), snapshotPage.getSimilarProducts(query),
+                            "Compiled query should match for " + id + ", " + sortBy + ", " + range + "!");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void productPage_afterSnapshot_neverCallsTheProduct() {
+        // GIVEN
+        ProductV2 product = mock(ProductV2.class);
+        ProductImagesV2 productImages = mock(ProductImagesV2.class);
+        ProductImagesV2.Image look = mock(ProductImagesV2.Image.class);
+        when(look.variant()).thenReturn("LOOK");
+        when(look.lowRes()).thenReturn(new StyledMedia.Builder(100, 200).build());
+        when(productImages.images()).thenReturn(Collections.singletonList(look));
+        when(product.productImages()).thenReturn(Optional.of(productImages));
+        when(product.buyingOptions()).thenReturn(Collections.emptyList());
+        when(product.getSimilarProducts()).thenReturn(null);
+        ProductPage snapshotPage = ProductSnapshot.of(product).productPage();
+        clearInvocations(product, productImages, look);
+
+        // WHEN
+        Optional<String> lookImageUrl = snapshotPage.extractLookImageUrl(TEST_LONG_DIMENSION);
+        List<ProductV2> similarProducts = snapshotPage.getSimilarProducts(SortByEnum.PRICE_LOW_TO_HIGH,
+            new PriceRangeOption(PriceRangeEnum.ANY), PrimeOption.ANY_SHIPPING);
+
+        // THEN
+        assertTrue(lookImageUrl.isPresent(), "LOOK image URL should be found!");
+        assertTrue(similarProducts.isEmpty(), "Null similar products should return empty List!");
+        verifyNoMoreInteractions(product, productImages, look);
+    }
+
+    @Test
+    public void productPage_compiledQuery_usesSnapshotAndDropsDuplicateAsins() {
+        // GIVEN
+        ProductV2 cheap = mockSimilarProduct("A1", BigDecimal.ONE);
+        ProductV2 duplicate = mockSimilarProduct("A1", BigDecimal.valueOf(5));
+        ProductV2 expensive = mockSimilarProduct("A2", BigDecimal.TEN);
+        ProductV2 product = mock(ProductV2.class);
+        when(product.productImages()).thenReturn(Optional.empty());
+        when(product.buyingOptions()).thenReturn(Collections.emptyList());
+        when(product.getSimilarProducts()).thenReturn(Arrays.asList(expensive, duplicate, cheap));
+        ProductPage snapshotPage = ProductSnapshot.of(product).productPage();
+        clearInvocations(product, cheap, duplicate, expensive);
+        SimilarProductsQuery query = SimilarProductsQuery.compile(SortByEnum.PRICE_LOW_TO_HIGH,
+            new PriceRangeOption(PriceRangeEnum.ANY), PrimeOption.ANY_SHIPPING);
+
+        // WHEN
+        List<ProductV2> similarProducts = snapshotPage.getSimilarProducts(query);
+
+        // THEN
+        assertEquals(Arrays.asList(duplicate, expensive), similarProducts,
+            "Only the first product of each ASIN should be kept, sorted by price!");
+        verifyNoMoreInteractions(product);
+    }
+
+    @Test
+    public void productPage_withMetrics_recordsLatencyOfEveryMethod() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(13L).generate(100, 20);
+        RecordingProductPageMetrics metrics = new RecordingProductPageMetrics();
+        ProductPage snapshotPage = ProductSnapshot.of(catalog.product(0)).productPage(null, metrics);
+
+        // WHEN
+        snapshotPage.getFirstBuyingOption();
+        snapshotPage.extractMainImageUrl(TEST_LONG_DIMENSION);
+        snapshotPage.extractLookImageUrl(TEST_LONG_DIMENSION);
+        snapshotPage.getSimilarProducts(SortByEnum.PRICE_LOW_TO_HIGH, new PriceRangeOption(PriceRangeEnum.ANY),
+            PrimeOption.ANY_SHIPPING);
+        snapshotPage.getSimilarProducts(SortByEnum.RELEVANCE, new PriceRangeOption(PriceRangeEnum.ANY),
+            PrimeOption.ANY_SHIPPING, 5);
+        snapshotPage.getSimilarProducts(SimilarProductsQuery.compile(SortByEnum.RELEVANCE,
+            new PriceRangeOption(PriceRangeEnum.ANY), PrimeOption.ANY_SHIPPING));
+
+        // THEN
+        assertEquals(1, metrics.getLatency(ProductPageOperation.GET_FIRST_BUYING_OPTION).getCount(),
+            "getFirstBuyingOption should be timed!");
+        assertEquals(1, metrics.getLatency(ProductPageOperation.EXTRACT_MAIN_IMAGE_URL).getCount(),
+            "extractMainImageUrl should be timed!");
+        assertEquals(1, metrics.getLatency(ProductPageOperation.EXTRACT_LOOK_IMAGE_URL).getCount(),
+            "extractLookImageUrl should be timed!");
+        assertEquals(3, metrics.getLatency(ProductPageOperation.GET_SIMILAR_PRODUCTS).getCount(),
+            "Every getSimilarProducts overload should be timed!");
+    }
+
+    private ProductV2 mockSimilarProduct(String asin, BigDecimal price) {
+        ProductV2 product = mock(ProductV2.class);
+        when(product.asin()).thenReturn(asin);
+        when(product.isValid()).thenReturn(true);
+        when(product.getPrice()).thenReturn(price);
+        when(product.getTotalBenefitAmount()).thenReturn(BigDecimal.ONE);
+        when(product.getShippingPrograms()).thenReturn(Collections.singletonList(PRIME));
+        return product;
+    }
+}
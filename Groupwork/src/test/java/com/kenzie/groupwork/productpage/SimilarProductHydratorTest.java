@@ -0,0 +1,179 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SimilarProductHydratorTest {
+
+    private static final PriceRangeOption ANY_PRICE = new PriceRangeOption(PriceRangeEnum.ANY);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private ExecutorService executor;
+    private CountDownLatch releaseStuckReads;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(8);
+        releaseStuckReads = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        releaseStuckReads.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void hydrate_thenFindMatches_matchesUnhydratedResultAndReadsEachAttributeOnce() {
+        // GIVEN
+        List<ProductV2> candidates = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            candidates.add(mockProduct("A" + i % 15, BigDecimal.valueOf(i % 7)));
+        }
+        SimilarProductsEngine engine = new SimilarProductsEngine();
+        List<ProductV2> expected = engine.findMatches(candidates, SortByEnum.PRICE_HIGH_TO_LOW, ANY_PRICE,
+            PrimeOption.ANY_SHIPPING);
+        clearInvocations(candidates.toArray());
+
+        // WHEN
+        List<ProductV2> hydrated = new SimilarProductHydrator(executor, 4, TIMEOUT).hydrate(candidates);
+        List<ProductV2> similarProducts = engine.findMatches(hydrated, SortByEnum.PRICE_HIGH_TO_LOW, ANY_PRICE,
+            PrimeOption.ANY_SHIPPING);
+
+        // THEN
+        assertEquals(expected.size(), similarProducts.size(), "Hydrated candidates should give the same matches!");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), ((HydratedProduct) similarProducts.get(i)).product(),
+                "Hydrated candidates should keep the same order!");
+        }
+        for (ProductV2 candidate : candidates) {
+            verify(candidate, times(1)).getPrice();
+            verify(candidate, times(1)).isValid();
+        }
+    }
+
+    @Test
+    public void hydrate_slowAndFailingCandidates_leavesThemOutAndKeepsOrder() {
+        // GIVEN
+        ProductV2 first = mockProduct("A1", BigDecimal.ONE);
+        ProductV2 slow = mockProduct("A2", BigDecimal.ONE);
+        when(slow.getPrice()).thenAnswer(invocation -> {
+            releaseStuckReads.await();
+            return BigDecimal.ONE;
+        });
+        ProductV2 failing = mockProduct("A3", BigDecimal.ONE);
+        when(failing.isValid()).thenThrow(new IllegalStateException("remote read failed"));
+        ProductV2 last = mockProduct("A4", BigDecimal.ONE);
+
+        // WHEN
+        List<ProductV2> hydrated = new SimilarProductHydrator(executor, 4, Duration.ofMillis(100))
+            .hydrate(Arrays.asList(first, slow, null, failing, last));
+
+        // THEN
+        assertEquals(3, hydrated.size(), "Slow and failing candidates should be left out!");
+        assertEquals(first, ((HydratedProduct) hydrated.get(0)).product(), "First candidate should stay first!");
+        assertNull(hydrated.get(1), "Null candidates should be kept!");
+        assertEquals(last, ((HydratedProduct) hydrated.get(2)).product(), "Last candidate should stay last!");
+    }
+
+    @Test
+    public void hydrate_readTimesOut_interruptsItAndGivesItsSlotToTheNextCandidate() throws InterruptedException {
+        // GIVEN
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ProductV2 stuck = mockProduct("A1", BigDecimal.ONE);
+        when(stuck.getPrice()).thenAnswer(invocation -> {
+            try {
+                releaseStuckReads.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return BigDecimal.ONE;
+        });
+        ProductV2 next = mockProduct("A2", BigDecimal.ONE);
+
+        // WHEN
+        List<ProductV2> hydrated = new SimilarProductHydrator(executor, 1, Duration.ofMillis(200))
+            .hydrate(Arrays.asList(stuck, next));
+
+        // THEN
+        assertEquals(1, hydrated.size(), "The next candidate should get the stuck read's slot!");
+        assertEquals(next, ((HydratedProduct) hydrated.get(0)).product(), "Only the next candidate should be read!");
+        // The cancel that interrupts the stuck read may land just after hydrate returns.
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "The stuck read should be interrupted!");
+    }
+
+    @Test
+    public void hydrate_withConcurrencyLimit_neverReadsMoreCandidatesAtOnce() {
+        // GIVEN
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<ProductV2> candidates = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ProductV2 candidate = mockProduct("A" + i, BigDecimal.ONE);
+            when(candidate.getPrice()).thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return BigDecimal.ONE;
+            });
+            candidates.add(candidate);
+        }
+
+        // WHEN
+        List<ProductV2> hydrated = new SimilarProductHydrator(executor, 3, TIMEOUT).hydrate(candidates);
+
+        // THEN
+        assertEquals(candidates.size(), hydrated.size(), "Every candidate should be hydrated!");
+        assertTrue(maxRunning.get() <= 3, "At most 3 candidates should be read at once, saw " + maxRunning + "!");
+    }
+
+    @Test
+    public void constructor_nonPositiveLimits_throwIllegalArgumentException() {
+        // GIVEN - WHEN - THEN
+        assertThrows(IllegalArgumentException.class, () -> new SimilarProductHydrator(executor, 0, TIMEOUT),
+            "A concurrency limit of 0 should be rejected!");
+        assertThrows(IllegalArgumentException.class, () -> new SimilarProductHydrator(executor, 1, Duration.ZERO),
+            "A zero timeout should be rejected!");
+    }
+
+    private ProductV2 mockProduct(String asin, BigDecimal price) {
+        ProductV2 product = mock(ProductV2.class);
+        when(product.asin()).thenReturn(asin);
+        when(product.isValid()).thenReturn(true);
+        when(product.getPrice()).thenReturn(price);
+        when(product.getTotalBenefitAmount()).thenReturn(BigDecimal.ONE);
+        when(product.getShippingPrograms()).thenReturn(Collections.singletonList(PRIME));
+        return product;
+    }
+}
@@ -0,0 +1,177 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.NONPRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIMENOW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SimilarProductsEngineTest {
+
+    private static final PriceRangeOption ANY_PRICE = new PriceRangeOption(PriceRangeEnum.ANY);
+    private static final PrimeOption PRIME_ONLY = new PrimeOption(Arrays.asList(PRIME, PRIMENOW));
+
+    private ProductV2 productV2;
+    private SimilarProductsEngine engine;
+
+    @BeforeEach
+    public void setup() {
+        productV2 = mock(ProductV2.class);
+        engine = new SimilarProductsEngine();
+    }
+
+    @Test
+    public void getSimilarProducts_whenSimilarProductsNull_returnsEmptyList() {
+        // GIVEN
+        when(productV2.getSimilarProducts()).thenReturn(null);
+
+        // WHEN
+        List<ProductV2> similarProducts = engine.getSimilarProducts(productV2, SortByEnum.RELEVANCE,
+            ANY_PRICE, PrimeOption.ANY_SHIPPING);
+
+        // THEN
+        assertTrue(similarProducts.isEmpty(), "Null similar products should return empty List!");
+    }
+
+    @Test
+    public void getSimilarProducts_withDuplicateAsins_keepsFirstProduct() {
+        // GIVEN
+        ProductV2 product1 = mockProduct("A1", BigDecimal.TEN, BigDecimal.ONE, Arrays.asList(PRIME, PRIMENOW));
+        ProductV2 duplicate = mockProduct("A1", BigDecimal.ONE, BigDecimal.ONE, Collections.singletonList(PRIME));
+        ProductV2 product2 = mockProduct("A2", BigDecimal.ONE, BigDecimal.ONE, Collections.singletonList(PRIME));
+        when(productV2.getSimilarProducts()).thenReturn(Arrays.asList(product1, duplicate, product2, product1));
+
+        // WHEN
+        List<ProductV2> similarProducts = engine.getSimilarProducts(productV2, SortByEnum.RELEVANCE,
+            ANY_PRICE, PRIME_ONLY);
+
+        // THEN
+        assertEquals(Arrays.asList(product1, product2), similarProducts, "Each ASIN should appear once!");
+    }
+
+    @Test
+    public void getSimilarProducts_withFilters_removesIneligibleProducts() {
+        // GIVEN
+        ProductV2 eligible = mockProduct("A1", BigDecimal.valueOf(30), BigDecimal.ONE,
+            Arrays.asList(NONPRIME, PRIMENOW));
+        ProductV2 wrongShipping = mockProduct("A2", BigDecimal.valueOf(30), BigDecimal.ONE,
+            Collections.singletonList(NONPRIME));
+        ProductV2 wrongPrice = mockProduct("A3", BigDecimal.valueOf(60), BigDecimal.ONE,
+            Collections.singletonList(PRIME));
+        ProductV2 invalid = mockProduct("A4", BigDecimal.valueOf(30), BigDecimal.ONE,
+            Collections.singletonList(PRIME));
+        when(invalid.isValid()).thenReturn(false);
+        when(productV2.getSimilarProducts()).thenReturn(
+            Arrays.asList(null, eligible, wrongShipping, wrongPrice, invalid));
+
+        // WHEN
+        List<ProductV2> similarProducts = engine.getSimilarProducts(productV2, SortByEnum.RELEVANCE,
+            new PriceRangeOption(PriceRangeEnum.PRICE_25_TO_50), PRIME_ONLY);
+
+        // THEN
+        assertEquals(Collections.singletonList(eligible), similarProducts, "Only eligible products should remain!");
+    }
+
+    @Test
+    public void getSimilarProducts_withRewardHighToLowSort_matchesProductPage() {
+        // GIVEN
+        ProductV2 product1 = mockProduct("A1", BigDecimal.TEN, BigDecimal.valueOf(2), Collections.singletonList(PRIME));
+        ProductV2 product2 = mockProduct("A2", BigDecimal.TEN, BigDecimal.ONE, Collections.singletonList(PRIME));
+        ProductV2 product3 = mockProduct("A3", BigDecimal.TEN, BigDecimal.valueOf(3), Collections.singletonList(PRIME));
+        ProductV2 product4 = mockProduct("A4", BigDecimal.TEN, BigDecimal.ONE, Collections.singletonList(PRIME));
+        when(productV2.getSimilarProducts()).thenReturn(Arrays.asList(product1, product2, product3, product4));
+
+        // WHEN
+        List<ProductV2> similarProducts = engine.getSimilarProducts(productV2, SortByEnum.REWARD_HIGH_TO_LOW,
+            ANY_PRICE, PRIME_ONLY);
+
+        // THEN
+        List<ProductV2> expected = new ProductPage(productV2).getSimilarProducts(SortByEnum.REWARD_HIGH_TO_LOW,
+            ANY_PRICE, PRIME_ONLY);
+        assertEquals(Arrays.asList(product3, product1, product2, product4), similarProducts,
+            "Similar products should be sorted high to low reward, ties in original order!");
+        assertEquals(expected, similarProducts, "Engine should match ProductPage!");
+    }
+
+    @Test
+    public void getSimilarProducts_withPrimitiveKeySort_matchesComparatorSort() {
+        // GIVEN
+        ProductV2 product1 = mockProduct("A1", BigDecimal.valueOf(20), BigDecimal.ONE, Collections.singletonList(PRIME));
+        ProductV2 product2 = mockProduct("A2", new BigDecimal("9.99"), BigDecimal.ONE, Collections.singletonList(PRIME));
+        ProductV2 product3 = mockProduct("A3", BigDecimal.valueOf(20), BigDecimal.ONE, Collections.singletonList(PRIME));
+        ProductV2 product4 = mockProduct("A4", new BigDecimal("150.50"), BigDecimal.ONE,
+            Collections.singletonList(PRIME));
+        when(productV2.getSimilarProducts()).thenReturn(Arrays.asList(product1, product2, product3, product4));
+        SimilarProductsEngine primitiveEngine = new SimilarProductsEngine(SimilarProductsSortMode.PRIMITIVE_KEYS);
+
+        for (SortByEnum sortBy : SortByEnum.values()) {
+            // WHEN
+            List<ProductV2> similarProducts = primitiveEngine.getSimilarProducts(productV2, sortBy,
+                ANY_PRICE, PRIME_ONLY);
+
+            // THEN
+            assertEquals(engine.getSimilarProducts(productV2, sortBy, ANY_PRICE, PRIME_ONLY), similarProducts,
+                "Primitive key sort should match comparator sort for " + sortBy + "!");
+        }
+    }
+
+    @Test
+    public void getSimilarProducts_aboveParallelThreshold_matchesSequentialEngine() {
+        // GIVEN
+        List<ProductV2> candidates = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            candidates.add(mockProduct("A" + i % 12, BigDecimal.valueOf(i % 9), BigDecimal.ONE,
+                Collections.singletonList(i % 4 == 0 ? NONPRIME : PRIME)));
+        }
+        when(productV2.getSimilarProducts()).thenReturn(candidates);
+        SimilarProductsEngine parallelEngine = new SimilarProductsEngine(SimilarProductsSortMode.COMPARATOR, 1);
+
+        for (SortByEnum sortBy : SortByEnum.values()) {
+            // WHEN
+            List<ProductV2> similarProducts = parallelEngine.getSimilarProducts(productV2, sortBy,
+                ANY_PRICE, PRIME_ONLY);
+
+            // THEN
+            assertEquals(engine.getSimilarProducts(productV2, sortBy, ANY_PRICE, PRIME_ONLY), similarProducts,
+                "Parallel filtering should match sequential filtering for " + sortBy + "!");
+        }
+    }
+
+    @Test
+    public void constructor_nonPositiveParallelThreshold_throwsIllegalArgumentException() {
+        // GIVEN - WHEN - THEN
+        assertThrows(IllegalArgumentException.class,
+            () -> new SimilarProductsEngine(SimilarProductsSortMode.COMPARATOR, 0),
+            "A parallel threshold of 0 should be rejected!");
+    }
+
+    private ProductV2 mockProduct(String asin, BigDecimal price, BigDecimal benefit,
+                                  List<ShippingProgramEnum> shipping) {
+        ProductV2 product = mock(ProductV2.class);
+        when(product.asin()).thenReturn(asin);
+        when(product.isValid()).thenReturn(true);
+        when(product.getPrice()).thenReturn(price);
+        when(product.getTotalBenefitAmount()).thenReturn(benefit);
+        when(product.getShippingPrograms()).thenReturn(shipping);
+        return product;
+    }
+}
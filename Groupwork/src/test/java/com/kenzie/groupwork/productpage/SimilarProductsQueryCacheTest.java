@@ -0,0 +1,57 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIMENOW;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SimilarProductsQueryCacheTest {
+
+    @Test
+    public void query_equivalentOptions_returnsSameQuery() {
+        // GIVEN
+        SimilarProductsQueryCache cache = new SimilarProductsQueryCache();
+
+        // WHEN
+        SimilarProductsQuery first = cache.query(SortByEnum.PRICE_LOW_TO_HIGH,
+            new PriceRangeOption(PriceRangeEnum.PRICE_25_TO_50), new PrimeOption(Arrays.asList(PRIME, PRIMENOW)));
+        SimilarProductsQuery second = cache.query(SortByEnum.PRICE_LOW_TO_HIGH,
+            new PriceRangeOption(PriceRangeEnum.PRICE_25_TO_50), new PrimeOption(Arrays.asList(PRIMENOW, PRIME)));
+
+        // THEN
+        assertSame(first, second, "Options accepting the same programs should share a query!");
+    }
+
+    @Test
+    public void query_differentPrimeOption_compilesNewQuery() {
+        // GIVEN
+        SimilarProductsQueryCache cache = new SimilarProductsQueryCache();
+        PriceRangeOption anyPrice = new PriceRangeOption(PriceRangeEnum.ANY);
+
+        // WHEN
+        SimilarProductsQuery prime = cache.query(SortByEnum.RELEVANCE, anyPrice,
+            new PrimeOption(Collections.singletonList(PRIME)));
+        SimilarProductsQuery any = cache.query(SortByEnum.RELEVANCE, anyPrice, PrimeOption.ANY_SHIPPING);
+
+        // THEN
+        assertNotSame(prime, any, "Different prime filters should not share a query!");
+    }
+
+    @Test
+    public void constructor_nonPositiveSize_throwsIllegalArgumentException() {
+        // GIVEN - WHEN - THEN
+        assertThrows(IllegalArgumentException.class, () -> new SimilarProductsQueryCache(0),
+            "A maximum size of 0 should be rejected!");
+    }
+}
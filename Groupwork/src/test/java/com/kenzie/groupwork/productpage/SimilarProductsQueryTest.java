@@ -0,0 +1,119 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.NONPRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIMENOW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class SimilarProductsQueryTest {
+
+    private static final PriceRangeOption PRICE_0_TO_25 = new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25);
+    private static final PrimeOption PRIME_ONLY = new PrimeOption(Arrays.asList(PRIME, PRIMENOW));
+
+    @Test
+    public void apply_everySortBy_matchesProductPage() {
+        // GIVEN
+        List<ProductV2> candidates = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            candidates.add(mockProduct(BigDecimal.valueOf(i * 3 % 31), BigDecimal.valueOf(i % 4),
+                Collections.singletonList(i % 3 == 0 ? NONPRIME : PRIME)));
+        }
+        candidates.add(null);
+        candidates.add(candidates.get(1));
+        ProductV2 product = mock(ProductV2.class);
+        when(product.getSimilarProducts()).thenReturn(candidates);
+        ProductPage productPage = new ProductPage(product);
+
+        for (SortByEnum sortBy : SortByEnum.values()) {
+            // WHEN
+            List<ProductV2> similarProducts =
+                productPage.getSimilarProducts(SimilarProductsQuery.compile(sortBy, PRICE_0_TO_25, PRIME_ONLY));
+
+            // THEN
+            assertEquals(productPage.getSimilarProducts(sortBy, PRICE_0_TO_25, PRIME_ONLY), similarProducts,
+                "Compiled query should match ProductPage for " + sortBy + "!");
+        }
+    }
+
+    @Test
+    public void apply_withDuplicateAsins_matchesEngine() {
+        // GIVEN
+        ProductV2 product1 = mockProduct(BigDecimal.TEN, BigDecimal.ONE, Arrays.asList(PRIME, PRIMENOW));
+        ProductV2 duplicate = mockProduct(BigDecimal.ONE, BigDecimal.ONE, Collections.singletonList(PRIME));
+        ProductV2 product2 = mockProduct(BigDecimal.ONE, BigDecimal.ONE, Collections.singletonList(PRIME));
+        when(product1.asin()).thenReturn("A1");
+        when(duplicate.asin()).thenReturn("A1");
+        when(product2.asin()).thenReturn("A2");
+        List<ProductV2> candidates = Arrays.asList(product1, duplicate, product2, product1);
+        SimilarProductsQuery query = SimilarProductsQuery.compile(SortByEnum.PRICE_LOW_TO_HIGH, PRICE_0_TO_25,
+            PRIME_ONLY);
+
+        // WHEN
+        List<ProductV2> similarProducts = query.apply(candidates);
+
+        // THEN
+        assertEquals(Arrays.asList(product2, product1), similarProducts, "Each ASIN should appear once!");
+        assertEquals(new SimilarProductsEngine().findMatches(candidates, SortByEnum.PRICE_LOW_TO_HIGH,
+            PRICE_0_TO_25, PRIME_ONLY), similarProducts, "Compiled query should match the engine!");
+    }
+
+    @Test
+    public void apply_wrongShipping_skipsPriceCheck() {
+        // GIVEN
+        ProductV2 nonPrime = mockProduct(BigDecimal.TEN, BigDecimal.ONE, Collections.singletonList(NONPRIME));
+        SimilarProductsQuery query = SimilarProductsQuery.compile(SortByEnum.RELEVANCE, PRICE_0_TO_25, PRIME_ONLY);
+
+        // WHEN
+        List<ProductV2> similarProducts = query.apply(Collections.singletonList(nonPrime));
+
+        // THEN
+        assertTrue(similarProducts.isEmpty(), "Non-prime product should not match!");
+        verify(nonPrime, never()).getPrice();
+    }
+
+    @Test
+    public void apply_primeOptionAcceptingNothing_skipsCandidates() {
+        // GIVEN
+        ProductV2 candidate = mock(ProductV2.class);
+        PrimeOption nothing = new PrimeOption(Collections.<ShippingProgramEnum>emptyList());
+        SimilarProductsQuery query = SimilarProductsQuery.compile(SortByEnum.PRICE_LOW_TO_HIGH, PRICE_0_TO_25,
+            nothing);
+
+        // WHEN
+        List<ProductV2> similarProducts = query.apply(Collections.singletonList(candidate));
+
+        // THEN
+        assertTrue(similarProducts.isEmpty(), "A prime filter accepting nothing should match nothing!");
+        verifyZeroInteractions(candidate);
+    }
+
+    private ProductV2 mockProduct(BigDecimal price, BigDecimal benefit, List<ShippingProgramEnum> shipping) {
+        ProductV2 product = mock(ProductV2.class);
+        when(product.isValid()).thenReturn(true);
+        when(product.getPrice()).thenReturn(price);
+        when(product.getTotalBenefitAmount()).thenReturn(benefit);
+        when(product.getShippingPrograms()).thenReturn(shipping);
+        return product;
+    }
+}
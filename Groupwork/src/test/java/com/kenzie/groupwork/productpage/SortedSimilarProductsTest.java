@@ -0,0 +1,135 @@
+package com.kenzie.groupwork.productpage;
+
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.NONPRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SortedSimilarProductsTest {
+
+    private static final PriceRangeOption ANY_PRICE = new PriceRangeOption(PriceRangeEnum.ANY);
+
+    private ProductV2 productV2;
+    private List<ProductV2> similarProducts;
+    private SortedSimilarProducts sortedSimilarProducts;
+
+    @BeforeEach
+    public void setup() {
+        productV2 = mock(ProductV2.class);
+        similarProducts = Arrays.asList(
+            mockProduct("A1", 20, 1, true),
+            mockProduct("A2", 10, 3, true),
+            mockProduct("A3", 20, 2, false),
+            mockProduct("A4", 30, 3, true),
+            mockProduct("A5", 10, 1, true),
+            mockProduct("A6", 20, 5, true));
+        when(productV2.getSimilarProducts()).thenReturn(similarProducts);
+        sortedSimilarProducts = SortedSimilarProducts.of(new ProductPage(productV2));
+    }
+
+    @Test
+    public void view_everySortBy_matchesProductPageOrder() {
+        ProductPage productPage = new ProductPage(productV2);
+        for (SortByEnum sortBy : SortByEnum.values()) {
+            // WHEN
+            List<ProductV2> view = sortedSimilarProducts.view(sortBy);
+
+            // THEN
+            List<ProductV2> expected = productPage.getSimilarProducts(sortBy, ANY_PRICE, PrimeOption.ANY_SHIPPING);
+            assertEquals(expected, view, "View should match ProductPage order for " + sortBy + "!");
+        }
+    }
+
+    @Test
+    public void view_reversedSortAfterSort_doesNotCompareAgain() {
+        // GIVEN
+        sortedSimilarProducts.view(SortByEnum.PRICE_LOW_TO_HIGH);
+        similarProducts.forEach(product -> clearInvocations(product));
+
+        // WHEN
+        List<ProductV2> highToLow = sortedSimilarProducts.view(SortByEnum.PRICE_HIGH_TO_LOW);
+        List<ProductV2> lowToHigh = sortedSimilarProducts.view(SortByEnum.PRICE_LOW_TO_HIGH);
+
+        // THEN
+        assertEquals(Arrays.asList("A4", "A1", "A3", "A6", "A2", "A5"), asins(highToLow),
+            "Ties should keep their original order!");
+        assertEquals(Arrays.asList("A2", "A5", "A1", "A3", "A6", "A4"), asins(lowToHigh),
+            "Ties should keep their original order!");
+        similarProducts.forEach(product -> verify(product, never()).getPrice());
+    }
+
+    @Test
+    public void view_withFilters_returnsMatchingProductsInOrder() {
+        // GIVEN
+        PrimeOption primeOnly = new PrimeOption(Collections.singletonList(PRIME));
+
+        // WHEN
+        List<ProductV2> view = sortedSimilarProducts.view(SortByEnum.REWARD_HIGH_TO_LOW,
+            new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25), primeOnly);
+
+        // THEN
+        assertEquals(Arrays.asList("A6", "A2", "A1", "A5"), asins(view), "Only eligible products should remain!");
+    }
+
+    @Test
+    public void view_sameAsinAtDifferentPrices_keepsFirstCopyInListOrderLikeEngine() {
+        // GIVEN
+        ProductV2 expensive = mockProduct("A1", 30, 1, true);
+        ProductV2 cheap = mockProduct("A1", 10, 1, true);
+        ProductV2 other = mockProduct("A2", 20, 1, true);
+        when(productV2.getSimilarProducts()).thenReturn(Arrays.asList(expensive, cheap, other));
+        SortedSimilarProducts withDuplicates = SortedSimilarProducts.of(new ProductPage(productV2));
+
+        // WHEN
+        List<ProductV2> view = withDuplicates.view(SortByEnum.PRICE_LOW_TO_HIGH, ANY_PRICE, PrimeOption.ANY_SHIPPING);
+
+        // THEN
+        assertEquals(Arrays.asList(other, expensive), view, "The first copy in list order should be kept!");
+        assertEquals(new SimilarProductsEngine().getSimilarProducts(productV2, SortByEnum.PRICE_LOW_TO_HIGH,
+            ANY_PRICE, PrimeOption.ANY_SHIPPING), view, "View should match SimilarProductsEngine!");
+    }
+
+    @Test
+    public void view_unmodifiable_throwsOnChange() {
+        // WHEN
+        List<ProductV2> view = sortedSimilarProducts.view(SortByEnum.RELEVANCE);
+
+        // THEN
+        assertTrue(view.size() > 0, "View should not be empty!");
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    private List<String> asins(List<ProductV2> products) {
+        return Arrays.asList(products.stream().map(ProductV2::asin).toArray(String[]::new));
+    }
+
+    private ProductV2 mockProduct(String asin, int price, int benefit, boolean prime) {
+        ProductV2 product = mock(ProductV2.class);
+        when(product.asin()).thenReturn(asin);
+        when(product.isValid()).thenReturn(true);
+        when(product.getPrice()).thenReturn(BigDecimal.valueOf(price));
+        when(product.getTotalBenefitAmount()).thenReturn(BigDecimal.valueOf(benefit));
+        when(product.getShippingPrograms()).thenReturn(Collections.singletonList(prime ? PRIME : NONPRIME));
+        return product;
+    }
+}
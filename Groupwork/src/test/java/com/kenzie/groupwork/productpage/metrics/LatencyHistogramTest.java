@@ -0,0 +1,68 @@
+package com.kenzie.groupwork.productpage.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_smallValues_areExact() {
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 50; value++) {
+            histogram.record(value);
+        }
+
+        // WHEN
+        long median = histogram.getValueAtPercentile(50);
+        long p100 = histogram.getValueAtPercentile(100);
+
+        // THEN
+        assertEquals(25, median, "Values below 64 should have exact buckets!");
+        assertEquals(50, p100, "The 100th percentile should be the maximum!");
+        assertEquals(50, histogram.getCount(), "Every value should be counted!");
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinBucketPrecision() {
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1_000; value <= 1_000_000; value += 1_000) {
+            histogram.record(value);
+        }
+
+        // WHEN
+        long p99 = histogram.getValueAtPercentile(99);
+
+        // THEN
+        assertTrue(p99 >= 990_000 && p99 <= 990_000 * 1.04, "p99 should be within 4% of 990000, was " + p99 + "!");
+        assertEquals(1_000_000, histogram.getMax(), "The maximum should be exact!");
+    }
+
+    @Test
+    public void record_negativeAndHugeValues_areClamped() {
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // WHEN
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        // THEN
+        assertEquals(0, histogram.getValueAtPercentile(50), "Negative values should count as 0!");
+        assertEquals(Long.MAX_VALUE, histogram.getMax(), "The maximum should still be exact!");
+        assertEquals(2, histogram.getCount(), "Both values should be counted!");
+    }
+
+    @Test
+    public void index_bucketBounds_containTheirValues() {
+        // GIVEN - WHEN - THEN
+        for (long value : new long[] {0, 63, 64, 65, 127, 128, 1_000, 123_456_789L, (1L << 40) + 7}) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.lowestValueOf(index) <= value
+                && value <= LatencyHistogram.highestValueOf(index), "Bucket should contain " + value + "!");
+        }
+    }
+}
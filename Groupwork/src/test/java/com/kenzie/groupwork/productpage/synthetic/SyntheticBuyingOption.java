@@ -0,0 +1,64 @@
+package com.kenzie.groupwork.productpage.synthetic;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The buying options of a synthetic product: buy new at the product price, then used and subscribe and save at a
+ * discount. Products under a dollar only have the new option.
+ */
+final class SyntheticBuyingOption implements ProductV2.BuyingOption {
+
+    private static final long MIN_DISCOUNTED_CENTS = 100;
+    private static final int USED_PERCENT = 70;
+    private static final int SUBSCRIBE_PERCENT = 95;
+    private static final int PERCENT = 100;
+
+    private final String type;
+    private final long priceCents;
+
+    private SyntheticBuyingOption(final String type, final long priceCents) {
+        this.type = type;
+        this.priceCents = priceCents;
+    }
+
+    /**
+     * Returns the buying options for a product price.
+     *
+     * @param priceCents the product price in cents
+     * @return the buying options, the winning option first
+     */
+    static List<ProductV2.BuyingOption> optionsFor(final long priceCents) {
+        final SyntheticBuyingOption buyNew = new SyntheticBuyingOption("NEW", priceCents);
+        if (priceCents < MIN_DISCOUNTED_CENTS) {
+            return Collections.singletonList(buyNew);
+        }
+        return Arrays.asList(buyNew,
+                new SyntheticBuyingOption("USED", priceCents * USED_PERCENT / PERCENT),
+                new SyntheticBuyingOption("SUBSCRIBE_AND_SAVE", priceCents * SUBSCRIBE_PERCENT / PERCENT));
+    }
+
+    @Override
+    public String type() {
+        return type;
+    }
+
+    @Override
+    public String merchant() {
+        return "Synthetic Merchant";
+    }
+
+    @Override
+    public String freeReturnsPolicy() {
+        return null;
+    }
+
+    @Override
+    public BigDecimal price() {
+        return BigDecimal.valueOf(priceCents, 2);
+    }
+}
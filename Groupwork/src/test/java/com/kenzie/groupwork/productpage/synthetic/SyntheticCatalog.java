@@ -0,0 +1,183 @@
+package com.kenzie.groupwork.productpage.synthetic;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.ShippingProgramMask;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A read-only catalog of synthetic products, stored as one primitive array per field.
+ *
+ * A product costs about 20 bytes plus 4 bytes per similar product, so millions fit in a modest heap. The
+ * {@link ProductV2} objects handed out are small views over the arrays: the similar products list, shipping program
+ * lists and image media are shared or created on demand, never stored per product.
+ *
+ * Create one with {@link SyntheticCatalogGenerator}. Test and benchmark fixture only.
+ */
+public final class SyntheticCatalog {
+
+    private static final int ASIN_DIGITS = 9;
+
+    private final long[] priceCents;
+    private final int[] benefitCents;
+    private final int[] shippingMasks;
+    private final byte[] imageCounts;
+    private final byte[] flags;
+    private final int[] similarOffsets;
+    private final int[] similarIds;
+    private final List<List<ShippingProgramEnum>> shippingProgramsByMask;
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    SyntheticCatalog(final long[] priceCents, final int[] benefitCents, final int[] shippingMasks,
+                     final byte[] imageCounts, final byte[] flags, final int[] similarOffsets,
+                     final int[] similarIds) {
+        this.priceCents = priceCents;
+        this.benefitCents = benefitCents;
+        this.shippingMasks = shippingMasks;
+        this.imageCounts = imageCounts;
+        this.flags = flags;
+        this.similarOffsets = similarOffsets;
+        this.similarIds = similarIds;
+        this.shippingProgramsByMask = shippingProgramLists();
+    }
+
+    /**
+     * Returns the number of products.
+     *
+     * @return the number of products
+     */
+    public int size() {
+        return priceCents.length;
+    }
+
+    /**
+     * Returns a product.
+     *
+     * @param id the product's position in the catalog, 0 to size() - 1
+     * @return a view of the product
+     */
+    public ProductV2 product(final int id) {
+        if (id < 0 || id >= size()) {
+            throw new IndexOutOfBoundsException("No product " + id + " in a catalog of " + size());
+        }
+        return new SyntheticProduct(this, id);
+    }
+
+    /**
+     * Returns every product, in id order.
+     *
+     * @return an unmodifiable list that creates the product views as they are read
+     */
+    public List<ProductV2> products() {
+        return new ProductList(this, null, 0, size());
+    }
+
+    /**
+     * Returns the ASIN of a product: "B" followed by the id as 9 digits.
+     *
+     * @param id the product id
+     * @return the ASIN
+     */
+    public String asin(final int id) {
+        final char[] asin = new char[ASIN_DIGITS + 1];
+        asin[0] = 'B';
+        int remaining = id;
+        for (int i = ASIN_DIGITS; i > 0; i--) {
+            asin[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return new String(asin);
+    }
+
+    long priceCents(final int id) {
+        return priceCents[id];
+    }
+
+    BigDecimal price(final int id) {
+        return BigDecimal.valueOf(priceCents[id], 2);
+    }
+
+    BigDecimal benefit(final int id) {
+        return BigDecimal.valueOf(benefitCents[id], 2);
+    }
+
+    List<ShippingProgramEnum> shippingPrograms(final int id) {
+        return shippingProgramsByMask.get(shippingMasks[id]);
+    }
+
+    int shippingMask(final int id) {
+        return shippingMasks[id];
+    }
+
+    boolean isValid(final int id) {
+        return (flags[id] & SyntheticCatalogGenerator.FLAG_VALID) != 0;
+    }
+
+    boolean hasLookImage(final int id) {
+        return (flags[id] & SyntheticCatalogGenerator.FLAG_LOOK_IMAGE) != 0;
+    }
+
+    int imageCount(final int id) {
+        return imageCounts[id];
+    }
+
+    int similarProductCount(final int id) {
+        return similarOffsets[id + 1] - similarOffsets[id];
+    }
+
+    List<ProductV2> similarProducts(final int id) {
+        return new ProductList(this, similarIds, similarOffsets[id], similarOffsets[id + 1]);
+    }
+
+    private static List<List<ShippingProgramEnum>> shippingProgramLists() {
+        final ShippingProgramEnum[] programs = ShippingProgramEnum.values();
+        final List<List<ShippingProgramEnum>> lists = new ArrayList<>(1 << programs.length);
+        for (int mask = 0; mask < 1 << programs.length; mask++) {
+            final List<ShippingProgramEnum> list = new ArrayList<>();
+            for (ShippingProgramEnum program : programs) {
+                if (ShippingProgramMask.contains(mask, program)) {
+                    list.add(program);
+                }
+            }
+            lists.add(Collections.unmodifiableList(list));
+        }
+        return lists;
+    }
+
+    /**
+     * Products by id, either a range of ids or a range of an id array.
+     */
+    private static final class ProductList extends AbstractList<ProductV2> implements RandomAccess {
+        private final SyntheticCatalog catalog;
+        private final int[] ids;
+        private final int from;
+        private final int to;
+
+        ProductList(final SyntheticCatalog catalog, final int[] ids, final int from, final int to) {
+            this.catalog = catalog;
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public ProductV2 get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " of " + size());
+            }
+            final int position = from + index;
+            return new SyntheticProduct(catalog, ids == null ? position : ids[position]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.kenzie.groupwork.productpage.synthetic;
+
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.ShippingProgramMask;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates a {@link SyntheticCatalog} with realistic looking products. The same seed and sizes always generate the
+ * same catalog, so load and benchmark runs are repeatable. Test and benchmark fixture only.
+ *
+ * <ul>
+ *     <li>Prices are log-normal around $25, from $0.99 to $5,000, and most end in .99.</li>
+ *     <li>About a third of the products have a reward, 1% to 10% of the price.</li>
+ *     <li>Most products ship with PRIME, some with NONPRIME, PRIMENOW and the rest; a quarter with two programs.</li>
+ *     <li>3% of the products are not valid.</li>
+ *     <li>Products have 1 to 7 images, a few have up to 30; a quarter of those with 2 or more end with a LOOK.</li>
+ *     <li>Similar products are mostly close by id, like products of one category, and some from anywhere.</li>
+ * </ul>
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public class SyntheticCatalogGenerator {
+
+    static final byte FLAG_VALID = 1;
+    static final byte FLAG_LOOK_IMAGE = 2;
+
+    private static final double MEDIAN_PRICE_CENTS = 2_500;
+    private static final double PRICE_SIGMA = 1.0;
+    private static final long MIN_PRICE_CENTS = 99;
+    private static final long MAX_PRICE_CENTS = 500_000;
+    private static final int CATEGORY_WINDOW = 500;
+
+    private static final ShippingProgramEnum[] PROGRAMS = {
+        ShippingProgramEnum.PRIME, ShippingProgramEnum.NONPRIME, ShippingProgramEnum.PRIMENOW,
+        ShippingProgramEnum.FRESH, ShippingProgramEnum.PANTRY, ShippingProgramEnum.ADDON, ShippingProgramEnum.UNKNOWN
+    };
+    private static final int[] PROGRAM_PERCENTS = {60, 25, 5, 3, 3, 2, 2};
+
+    private final long seed;
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed the random seed
+     */
+    public SyntheticCatalogGenerator(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generates a catalog.
+     *
+     * @param productCount the number of products
+     * @param meanSimilarProducts the average number of similar products per product, each product has between 0
+     *                            and twice as many
+     * @return the catalog
+     */
+    public SyntheticCatalog generate(final int productCount, final int meanSimilarProducts) {
+        if (productCount < 0 || meanSimilarProducts < 0) {
+            throw new IllegalArgumentException("Sizes must be >= 0, got " + productCount + " products and "
+                    + meanSimilarProducts + " similar products");
+        }
+        final Random random = new Random(seed);
+        final long[] priceCents = new long[productCount];
+        final int[] benefitCents = new int[productCount];
+        final int[] shippingMasks = new int[productCount];
+        final byte[] imageCounts = new byte[productCount];
+        final byte[] flags = new byte[productCount];
+        fillAttributes(random, priceCents, benefitCents, shippingMasks, imageCounts, flags);
+
+        final int[] similarOffsets = similarOffsets(random, productCount, meanSimilarProducts);
+        final int[] similarIds = new int[similarOffsets[productCount]];
+        for (int id = 0; id < productCount; id++) {
+            for (int i = similarOffsets[id]; i < similarOffsets[id + 1]; i++) {
+                similarIds[i] = similarId(random, id, productCount);
+            }
+        }
+        return new SyntheticCatalog(priceCents, benefitCents, shippingMasks, imageCounts, flags, similarOffsets,
+                similarIds);
+    }
+
+    /**
+     * Generates one product whose similar products are a whole catalog, e.g. to benchmark a single page.
+     *
+     * @param similarProductCount the number of similar products
+     * @return the product
+     */
+    public ProductV2 productWithSimilarProducts(final int similarProductCount) {
+        if (similarProductCount < 0) {
+            throw new IllegalArgumentException("Sizes must be >= 0, got " + similarProductCount
+                    + " similar products");
+        }
+        return productSimilarTo(similarProductCount, 0);
+    }
+
+    /**
+     * Generates one valid product with buying options and images: MAIN first, then PT01, PT02, ..., and LOOK last
+     * when there are 2 or more, so finding the LOOK image scans every image.
+     *
+     * @param imageCount the number of images, 1 to 100
+     * @return the product
+     */
+    public ProductV2 productWithImages(final int imageCount) {
+        if (imageCount < 1 || imageCount > SyntheticImages.MAX_PT_IMAGES + 1) {
+            throw new IllegalArgumentException("imageCount must be 1 to " + (SyntheticImages.MAX_PT_IMAGES + 1)
+                    + ", got " + imageCount);
+        }
+        return productSimilarTo(0, imageCount);
+    }
+
+    /**
+     * Generates a catalog where product 0 is similar to every other product, and returns product 0. The other
+     * products have no similar products. An imageCount above 0 replaces product 0's images, ending with a LOOK.
+     */
+    private ProductV2 productSimilarTo(final int similarProductCount, final int imageCount) {
+        final Random random = new Random(seed);
+        final int productCount = similarProductCount + 1;
+        final long[] priceCents = new long[productCount];
+        final int[] benefitCents = new int[productCount];
+        final int[] shippingMasks = new int[productCount];
+        final byte[] imageCounts = new byte[productCount];
+        final byte[] flags = new byte[productCount];
+        fillAttributes(random, priceCents, benefitCents, shippingMasks, imageCounts, flags);
+        if (imageCount > 0) {
+            imageCounts[0] = (byte) imageCount;
+            flags[0] = FLAG_VALID | FLAG_LOOK_IMAGE;
+        }
+
+        final int[] similarOffsets = new int[productCount + 1];
+        Arrays.fill(similarOffsets, 1, productCount + 1, similarProductCount);
+        final int[] similarIds = new int[similarProductCount];
+        Arrays.setAll(similarIds, i -> i + 1);
+        return new SyntheticCatalog(priceCents, benefitCents, shippingMasks, imageCounts, flags, similarOffsets,
+                similarIds).product(0);
+    }
+
+    private static void fillAttributes(final Random random, final long[] priceCents, final int[] benefitCents,
+                                       final int[] shippingMasks, final byte[] imageCounts, final byte[] flags) {
+        for (int id = 0; id < priceCents.length; id++) {
+            priceCents[id] = price(random);
+            benefitCents[id] = benefit(random, priceCents[id]);
+            shippingMasks[id] = shippingMask(random);
+            imageCounts[id] = (byte) imageCount(random);
+            flags[id] = flags(random, imageCounts[id]);
+        }
+    }
+
+    private static long price(final Random random) {
+        final double cents = MEDIAN_PRICE_CENTS * Math.exp(PRICE_SIGMA * random.nextGaussian());
+        long rounded = Math.max(MIN_PRICE_CENTS, Math.min(MAX_PRICE_CENTS, Math.round(cents)));
+        if (random.nextInt(100) < 60) {
+            rounded = Math.max(MIN_PRICE_CENTS, rounded / 100 * 100 - 1);
+        }
+        return rounded;
+    }
+
+    private static int benefit(final Random random, final long priceCents) {
+        if (random.nextInt(3) != 0) {
+            return 0;
+        }
+        return (int) (priceCents * (1 + random.nextInt(10)) / 100);
+    }
+
+    private static int shippingMask(final Random random) {
+        int mask = ShippingProgramMask.of(program(random));
+        if (random.nextInt(4) == 0) {
+            mask |= ShippingProgramMask.of(program(random));
+        }
+        return mask;
+    }
+
+    private static ShippingProgramEnum program(final Random random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < PROGRAMS.length; i++) {
+            roll -= PROGRAM_PERCENTS[i];
+            if (roll < 0) {
+                return PROGRAMS[i];
+            }
+        }
+        return ShippingProgramEnum.UNKNOWN;
+    }
+
+    private static int imageCount(final Random random) {
+        if (random.nextInt(10) == 0) {
+            return 8 + random.nextInt(23);
+        }
+        return 1 + random.nextInt(7);
+    }
+
+    private static byte flags(final Random random, final int imageCount) {
+        byte flags = 0;
+        if (random.nextInt(100) >= 3) {
+            flags |= FLAG_VALID;
+        }
+        if (imageCount >= 2 && random.nextInt(4) == 0) {
+            flags |= FLAG_LOOK_IMAGE;
+        }
+        return flags;
+    }
+
+    private static int[] similarOffsets(final Random random, final int productCount, final int meanSimilarProducts) {
+        final int[] offsets = new int[productCount + 1];
+        long total = 0;
+        for (int id = 0; id < productCount; id++) {
+            offsets[id] = (int) total;
+            if (productCount > 1) {
+                total += random.nextInt(2 * meanSimilarProducts + 1);
+            }
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many similar products: " + productCount + " products with "
+                        + meanSimilarProducts + " similar products each on average");
+            }
+        }
+        offsets[productCount] = (int) total;
+        return offsets;
+    }
+
+    private static int similarId(final Random random, final int id, final int productCount) {
+        int similarId;
+        do {
+            if (random.nextInt(5) == 0) {
+                similarId = random.nextInt(productCount);
+            } else {
+                final int from = Math.max(0, id - CATEGORY_WINDOW);
+                final int to = Math.min(productCount, id + CATEGORY_WINDOW + 1);
+                similarId = from + random.nextInt(to - from);
+            }
+        } while (similarId == id);
+        return similarId;
+    }
+}
@@ -0,0 +1,148 @@
+package com.kenzie.groupwork.productpage.synthetic;
+
+import com.kenzie.groupwork.productpage.ProductPage;
+import com.kenzie.groupwork.productpage.SimilarProductsEngine;
+import com.kenzie.groupwork.productpage.types.PriceRangeEnum;
+import com.kenzie.groupwork.productpage.types.PriceRangeOption;
+import com.kenzie.groupwork.productpage.types.PrimeOption;
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+import com.kenzie.groupwork.productpage.types.SortByEnum;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SyntheticCatalogGeneratorTest {
+
+    private static final long SEED = 7L;
+
+    @Test
+    public void generate_sameSeed_generatesSameCatalog() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(SEED).generate(1_000, 10);
+        SyntheticCatalog again = new SyntheticCatalogGenerator(SEED).generate(1_000, 10);
+
+        // WHEN - THEN
+        for (int id = 0; id < catalog.size(); id++) {
+            ProductV2 product = catalog.product(id);
+            ProductV2 sameProduct = again.product(id);
+            assertEquals(product.getPrice(), sameProduct.getPrice(), "Prices should repeat for product " + id + "!");
+            assertEquals(product.getShippingPrograms(), sameProduct.getShippingPrograms(),
+                "Shipping programs should repeat for product " + id + "!");
+            assertEquals(asins(product.getSimilarProducts()), asins(sameProduct.getSimilarProducts()),
+                "Similar products should repeat for product " + id + "!");
+        }
+    }
+
+    @Test
+    public void generate_products_haveValuesWithinTheirRanges() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(SEED).generate(2_000, 5);
+
+        // WHEN - THEN
+        for (ProductV2 product : catalog.products()) {
+            assertTrue(product.getPrice().compareTo(new BigDecimal("0.99")) >= 0
+                    && product.getPrice().compareTo(BigDecimal.valueOf(5_000)) <= 0,
+                "Price should be from $0.99 to $5,000, was " + product.getPrice() + "!");
+            assertTrue(product.getTotalBenefitAmount().compareTo(product.getPrice()) < 0,
+                "Reward should be less than the price!");
+            assertTrue(!product.getShippingPrograms().isEmpty() && product.getShippingPrograms().size() <= 2,
+                "Products should ship with one or two programs!");
+            for (ProductV2 similarProduct : product.getSimilarProducts()) {
+                assertNotEquals(product.asin(), similarProduct.asin(), "A product should not be similar to itself!");
+            }
+        }
+    }
+
+    @Test
+    public void productImages_startWithMainAndEndWithLookWhenPresent() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(SEED).generate(500, 0);
+
+        // WHEN - THEN
+        int lookImages = 0;
+        for (int id = 0; id < catalog.size(); id++) {
+            List<ProductImagesV2.Image> images = catalog.product(id).productImages().get().images();
+            assertEquals("MAIN", images.get(0).variant(), "First image should be MAIN!");
+            for (int i = 1; i < images.size() - 1; i++) {
+                assertEquals(String.format("PT%02d", i), images.get(i).variant(), "Middle images should be PTnn!");
+            }
+            if (catalog.hasLookImage(id)) {
+                lookImages++;
+                assertEquals("LOOK", images.get(images.size() - 1).variant(), "Last image should be LOOK!");
+            }
+        }
+        assertTrue(lookImages > 0, "Some products should have a LOOK image!");
+    }
+
+    @Test
+    public void getSimilarProducts_syntheticProduct_engineMatchesProductPage() {
+        // GIVEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(SEED).generate(5_000, 40);
+        PriceRangeOption priceRange = new PriceRangeOption(PriceRangeEnum.PRICE_0_TO_25);
+        PrimeOption primeOption = new PrimeOption(Arrays.asList(ShippingProgramEnum.PRIME,
+            ShippingProgramEnum.PRIMENOW));
+
+        for (int id = 0; id < 50; id++) {
+            ProductV2 product = catalog.product(id);
+
+            // WHEN
+            List<ProductV2> similarProducts = new SimilarProductsEngine().getSimilarProducts(product,
+                SortByEnum.PRICE_LOW_TO_HIGH, priceRange, primeOption);
+
+            // THEN
+            assertEquals(new ProductPage(product).getSimilarProducts(SortByEnum.PRICE_LOW_TO_HIGH, priceRange,
+                primeOption), similarProducts, "Engine should match ProductPage for product " + id + "!");
+        }
+    }
+
+    @Test
+    public void generate_noProducts_returnsEmptyCatalog() {
+        // GIVEN - WHEN
+        SyntheticCatalog catalog = new SyntheticCatalogGenerator(SEED).generate(0, 10);
+
+        // THEN
+        assertEquals(0, catalog.size(), "Catalog should be empty!");
+        assertTrue(catalog.products().isEmpty(), "Catalog should have no products!");
+    }
+
+    @Test
+    public void productWithSimilarProducts_count_hasThatManyDistinctSimilarProducts() {
+        // GIVEN - WHEN
+        ProductV2 product = new SyntheticCatalogGenerator(SEED).productWithSimilarProducts(1_000);
+
+        // THEN
+        assertEquals(1_000, product.getSimilarProducts().size(), "Product should have 1000 similar products!");
+        assertEquals(1_000, product.getSimilarProducts().stream().map(ProductV2::asin).distinct().count(),
+            "Similar products should all be different!");
+    }
+
+    @Test
+    public void productWithImages_count_startsWithMainAndEndsWithLook() {
+        // GIVEN - WHEN
+        ProductV2 product = new SyntheticCatalogGenerator(SEED).productWithImages(10);
+
+        // THEN
+        List<ProductImagesV2.Image> images = product.productImages().map(ProductImagesV2::images).get();
+        assertEquals(10, images.size(), "Product should have 10 images!");
+        assertEquals("MAIN", images.get(0).variant(), "First image should be MAIN!");
+        assertEquals("LOOK", images.get(9).variant(), "Last image should be LOOK!");
+        assertTrue(product.isValid(), "Product should be valid!");
+    }
+
+    private static String asins(List<ProductV2> products) {
+        StringBuilder asins = new StringBuilder();
+        for (ProductV2 product : products) {
+            asins.append(product.asin()).append(',');
+        }
+        return asins.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.kenzie.groupwork.productpage.synthetic;
+
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.StyledMedia;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The images of a synthetic product: MAIN first, then PT01, PT02, ..., and LOOK last if the product has one.
+ *
+ * Every image is taken from one shared table, so listing a product's images allocates nothing but the list view.
+ */
+final class SyntheticImages implements ProductImagesV2 {
+
+    /**
+     * The most PTnn images a product can have.
+     */
+    static final int MAX_PT_IMAGES = 99;
+
+    private static final String CDN = "m.media-amazon.com";
+    private static final int[][] DIMENSIONS = {{500, 500}, {500, 375}, {375, 500}, {300, 300}};
+    private static final Image MAIN = image("MAIN", 0);
+    private static final Image LOOK = image("LOOK", 1);
+    private static final Image[] PT = new Image[MAX_PT_IMAGES + 1];
+
+    static {
+        for (int i = 1; i <= MAX_PT_IMAGES; i++) {
+            PT[i] = image(String.format("PT%02d", i), i);
+        }
+    }
+
+    private final int imageCount;
+    private final boolean hasLookImage;
+
+    /**
+     * Creates the images of a product.
+     *
+     * @param imageCount the number of images, including MAIN and LOOK
+     * @param hasLookImage true if the last image is the LOOK variant
+     */
+    SyntheticImages(final int imageCount, final boolean hasLookImage) {
+        this.imageCount = imageCount;
+        this.hasLookImage = hasLookImage;
+    }
+
+    @Override
+    public List<Image> images() {
+        return new ImageList();
+    }
+
+    @Override
+    public String altText() {
+        return "Synthetic product image";
+    }
+
+    private static Image image(final String variant, final int size) {
+        final int[] dimensions = DIMENSIONS[size % DIMENSIONS.length];
+        final StyledMedia media = new StyledMedia.Builder(dimensions[0], dimensions[1]).cdn(CDN).build();
+        return new Image() {
+            @Override
+            public StyledMedia lowRes() {
+                return media;
+            }
+
+            @Override
+            public StyledMedia hiRes() {
+                return media;
+            }
+
+            @Override
+            public String variant() {
+                return variant;
+            }
+        };
+    }
+
+    /**
+     * The product's images, picked from the shared table by position.
+     */
+    private final class ImageList extends AbstractList<Image> implements RandomAccess {
+        @Override
+        public Image get(final int index) {
+            if (index < 0 || index >= imageCount) {
+                throw new IndexOutOfBoundsException("Index " + index + " of " + imageCount);
+            }
+            if (index == 0) {
+                return MAIN;
+            }
+            if (hasLookImage && index == imageCount - 1) {
+                return LOOK;
+            }
+            return PT[index];
+        }
+
+        @Override
+        public int size() {
+            return imageCount;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.kenzie.groupwork.productpage.synthetic;
+
+import com.kenzie.groupwork.productpage.types.ProductImagesV2;
+import com.kenzie.groupwork.productpage.types.ProductV2;
+import com.kenzie.groupwork.productpage.types.ShippingProgramEnum;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A view of one product of a {@link SyntheticCatalog}. Two views of the same product are equal.
+ */
+final class SyntheticProduct implements ProductV2 {
+
+    private final SyntheticCatalog catalog;
+    private final int id;
+
+    SyntheticProduct(final SyntheticCatalog catalog, final int id) {
+        this.catalog = catalog;
+        this.id = id;
+    }
+
+    int id() {
+        return id;
+    }
+
+    @Override
+    public String internalDatapathEntity() {
+        return null;
+    }
+
+    @Override
+    public String title() {
+        return "Synthetic product " + id;
+    }
+
+    @Override
+    public List<BuyingOption> buyingOptions() {
+        return SyntheticBuyingOption.optionsFor(catalog.priceCents(id));
+    }
+
+    @Override
+    public String asin() {
+        return catalog.asin(id);
+    }
+
+    @Override
+    public Optional<ProductImagesV2> productImages() {
+        return Optional.of(new SyntheticImages(catalog.imageCount(id), catalog.hasLookImage(id)));
+    }
+
+    @Override
+    public BigDecimal getTotalBenefitAmount() {
+        return catalog.benefit(id);
+    }
+
+    @Override
+    public BigDecimal getPrice() {
+        return catalog.price(id);
+    }
+
+    @Override
+    public List<ProductV2> getSimilarProducts() {
+        return catalog.similarProducts(id);
+    }
+
+    @Override
+    public List<ShippingProgramEnum> getShippingPrograms() {
+        return catalog.shippingPrograms(id);
+    }
+
+    @Override
+    public boolean isValid() {
+        return catalog.isValid(id);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SyntheticProduct)) {
+            return false;
+        }
+        final SyntheticProduct other = (SyntheticProduct) o;
+        return id == other.id && catalog == other.catalog;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticProduct{" + catalog.asin(id) + '}';
+    }
+}
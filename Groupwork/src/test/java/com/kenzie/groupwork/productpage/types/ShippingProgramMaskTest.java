@@ -0,0 +1,65 @@
+package com.kenzie.groupwork.productpage.types;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.NONPRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIME;
+import static com.kenzie.groupwork.productpage.types.ShippingProgramEnum.PRIMENOW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShippingProgramMaskTest {
+
+    @Test
+    public void of_programsWithNull_setsOneBitPerProgram() {
+        // GIVEN
+        int mask = ShippingProgramMask.of(Arrays.asList(PRIME, null, PRIMENOW, PRIME));
+
+        // WHEN - THEN
+        for (ShippingProgramEnum program : ShippingProgramEnum.values()) {
+            assertEquals(program == PRIME || program == PRIMENOW, ShippingProgramMask.contains(mask, program),
+                "Mask should contain exactly the listed programs, checked " + program + "!");
+        }
+        assertEquals(2, Integer.bitCount(mask), "Mask should have one bit per distinct program!");
+    }
+
+    @Test
+    public void of_nullPrograms_returnsNone() {
+        // GIVEN - WHEN
+        int mask = ShippingProgramMask.of((List<ShippingProgramEnum>) null);
+
+        // THEN
+        assertEquals(ShippingProgramMask.NONE, mask, "Null programs should give an empty mask!");
+    }
+
+    @Test
+    public void matchesMask_sharedProgram_returnsTrue() {
+        // GIVEN
+        PrimeOption primeOnly = new PrimeOption(Arrays.asList(PRIME, PRIMENOW));
+
+        // WHEN - THEN
+        assertTrue(primeOnly.matchesMask(ShippingProgramMask.of(Arrays.asList(NONPRIME, PRIMENOW))),
+            "A product shipping with PRIMENOW should match!");
+        assertFalse(primeOnly.matchesMask(ShippingProgramMask.of(Collections.singletonList(NONPRIME))),
+            "A product shipping only with NONPRIME should not match!");
+        assertFalse(primeOnly.matchesMask(ShippingProgramMask.NONE), "A product with no programs should not match!");
+    }
+
+    @Test
+    public void anyShipping_hasAllOnesMask() {
+        // GIVEN - WHEN
+        int mask = PrimeOption.ANY_SHIPPING.getSupportedShippingMask();
+
+        // THEN
+        assertEquals(ShippingProgramMask.ALL, mask, "ANY_SHIPPING should be the all-ones mask!");
+        for (ShippingProgramEnum program : ShippingProgramEnum.values()) {
+            assertTrue(PrimeOption.ANY_SHIPPING.matches(program), "ANY_SHIPPING should match " + program + "!");
+        }
+        assertFalse(PrimeOption.ANY_SHIPPING.matches(null), "ANY_SHIPPING should not match a null program!");
+    }
+}
@@ -0,0 +1,82 @@
+package com.kenzie.groupwork.productpage.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StyledMediaSrcsetTest {
+
+    private static final int[] SIZES = {64, 120, 240, 480, 960, 1200, 1920};
+
+    @Test
+    public void urlsScaledToLongest_landscapeAndPortrait_matchSingleBuilds() {
+        for (StyledMedia media : new StyledMedia[] {
+            new StyledMedia.Builder(1500, 1000).build(), new StyledMedia.Builder(300, 900).build()}) {
+            // WHEN
+            String[] urls = StyledMediaSrcset.urlsScaledToLongest(media, SIZES);
+
+            // THEN
+            for (int i = 0; i < SIZES.length; i++) {
+                assertEquals(media.styleBuilder().scaleToLongest(SIZES[i]).build().url(), urls[i],
+                    "URL for " + SIZES[i] + " should match a single build!");
+            }
+        }
+    }
+
+    @Test
+    public void urlsScaledToLongest_sizesWithFewerDigitsAfterMore_matchSingleBuilds() {
+        // GIVEN
+        StyledMedia media = new StyledMedia.Builder(2400, 1600).build();
+        int[] sizes = {10000, 1920, 64, 7, 320};
+
+        // WHEN
+        String[] urls = StyledMediaSrcset.urlsScaledToLongest(media, sizes);
+
+        // THEN
+        for (int i = 0; i < sizes.length; i++) {
+            assertEquals(media.styleBuilder().scaleToLongest(sizes[i]).build().url(), urls[i],
+                "URL for " + sizes[i] + " should match a single build!");
+        }
+    }
+
+    @Test
+    public void urlsScaledToLongest_sizeScalingToZero_returnsNull() {
+        // GIVEN
+        StyledMedia media = new StyledMedia.Builder(1000, 1).build();
+
+        // WHEN
+        String[] urls = StyledMediaSrcset.urlsScaledToLongest(media, new int[] {100, 2000});
+
+        // THEN
+        assertNull(urls[0], "A height scaled to 0 should have no URL!");
+        assertEquals(media.styleBuilder().scaleToLongest(2000).build().url(), urls[1],
+            "A size above the original should keep the original dimensions!");
+    }
+
+    @Test
+    public void srcset_twoSizes_listsUrlsWithWidths() {
+        // GIVEN
+        StyledMedia media = new StyledMedia.Builder(400, 800).build();
+
+        // WHEN
+        String srcset = StyledMediaSrcset.srcset(media, new int[] {100, 200});
+
+        // THEN
+        assertEquals(media.styleBuilder().scaleToLongest(100).build().url() + " 50w, "
+            + media.styleBuilder().scaleToLongest(200).build().url() + " 100w", srcset,
+            "Srcset should list each URL with its scaled width!");
+    }
+
+    @Test
+    public void urlsScaledToLongest_nonPositiveSize_throwsIllegalArgumentException() {
+        // GIVEN
+        StyledMedia media = new StyledMedia.Builder(100, 100).build();
+
+        // WHEN - THEN
+        assertThrows(IllegalArgumentException.class,
+            () -> StyledMediaSrcset.urlsScaledToLongest(media, new int[] {100, 0}),
+            "A size of 0 should be rejected like scaleToLongest!");
+    }
+}
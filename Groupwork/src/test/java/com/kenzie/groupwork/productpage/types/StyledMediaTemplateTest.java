@@ -0,0 +1,105 @@
+package com.kenzie.groupwork.productpage.types;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StyledMediaTemplateTest {
+
+    @Test
+    public void url_scaledTemplate_matchesBuilder() {
+        // GIVEN
+        StyledMediaTemplate template = StyledMediaTemplate.of(500, 400)
+            .cdn("m.media-amazon.com")
+            .autoCrop()
+            .scaleToLongest(120);
+
+        // WHEN
+        String url = template.url(null, null);
+
+        // THEN
+        String expected = new StyledMedia.Builder(500, 400)
+            .cdn("m.media-amazon.com")
+            .autoCrop()
+            .scaleToLongest(120)
+            .build()
+            .url();
+        assertEquals(expected, url, "Template URL should match the Builder's URL!");
+        assertEquals(120, template.width(), "Width should be scaled like the Builder!");
+        assertEquals(96, template.height(), "Height should be scaled like the Builder!");
+    }
+
+    @Test
+    public void url_pathBasedAndUnstyledTemplates_matchBuilder() {
+        // GIVEN
+        StyledMediaTemplate pathBased = StyledMediaTemplate.of(660, 200)
+            .withNameAndOU("/kindle/merch/VX-1020.jpg", "01", "515800720")
+            .blur(10);
+        StyledMediaTemplate unstyled = StyledMediaTemplate.of(100, 100);
+
+        // WHEN - THEN
+        assertEquals(pathBased.toBuilder().build().url(), pathBased.url(null, null),
+            "Path-based URL should match the Builder's URL!");
+        assertEquals(unstyled.toBuilder().build().url(), unstyled.url(null, null),
+            "Unstyled URL should match the Builder's URL!");
+    }
+
+    @Test
+    public void url_physicalIdAndExtension_fillUrl() {
+        // GIVEN
+        StyledMediaTemplate template = StyledMediaTemplate.of(500, 500).cdn("cdn").scaleToSquare(50);
+
+        // WHEN
+        String url = template.url("41abc", "jpg");
+
+        // THEN
+        assertEquals("https://cdn/images/I/41abc._SS50_.jpg", url, "URL should contain the image's id!");
+    }
+
+    @Test
+    public void operations_sharedTemplate_doNotChangeIt() {
+        // GIVEN
+        StyledMediaTemplate base = StyledMediaTemplate.of(800, 600).cdn("cdn").autoCrop();
+
+        // WHEN
+        StyledMediaTemplate small = base.scaleToLongest(100);
+        StyledMediaTemplate large = base.scaleToLongest(400);
+
+        // THEN
+        assertEquals(new StyledMedia.Builder(800, 600).cdn("cdn").autoCrop().build().url(), base.url(null, null),
+            "Base template should be unchanged!");
+        assertTrue(small.url("id", "jpg").contains("_SL100_"), "Small template should have its own size!");
+        assertTrue(large.url("id", "jpg").contains("_SL400_"), "Large template should have its own size!");
+    }
+
+    @Test
+    public void url_manyThreads_generatesSameUrls() {
+        // GIVEN
+        StyledMediaTemplate template = StyledMediaTemplate.of(500, 400).cdn("cdn").scaleToWidth(250);
+
+        // WHEN
+        List<String> urls = IntStream.range(0, 10_000).parallel()
+            .mapToObj(i -> template.url("id" + i, "png"))
+            .collect(Collectors.toList());
+
+        // THEN
+        for (int i = 0; i < urls.size(); i++) {
+            assertEquals("https://cdn/images/I/id" + i + "._SX250_.png", urls.get(i), "URL " + i + " should match!");
+        }
+    }
+
+    @Test
+    public void operations_invalidArgumentsOrDimensions_behaveLikeBuilder() {
+        // GIVEN - WHEN - THEN
+        assertThrows(IllegalArgumentException.class, () -> StyledMediaTemplate.of(100, 100).scaleToLongest(0),
+            "Invalid sizes should be rejected when the template is created!");
+        assertNull(StyledMediaTemplate.of(0, 100).url("id", "jpg"), "No dimensions should have no URL!");
+    }
+}
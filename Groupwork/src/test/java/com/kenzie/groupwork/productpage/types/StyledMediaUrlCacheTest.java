@@ -0,0 +1,72 @@
+package com.kenzie.groupwork.productpage.types;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class StyledMediaUrlCacheTest {
+
+    private StyledMediaUrlCache urlCache;
+
+    @BeforeEach
+    public void setup() {
+        urlCache = new StyledMediaUrlCache(2);
+    }
+
+    @Test
+    public void url_sameBuilderState_buildsOnceAndReturnsBuiltUrl() {
+        // GIVEN
+        StyledMedia.Builder first = new StyledMedia.Builder(200, 100).cdn("m.media").scaleToLongest(120);
+        StyledMedia.Builder second = new StyledMedia.Builder(300, 300).cdn("m.media").scaleToLongest(120);
+
+        // WHEN
+        String firstUrl = urlCache.url(first);
+        String secondUrl = urlCache.url(second);
+
+        // THEN
+        assertEquals(first.build().url(), firstUrl, "Cached URL should be the built URL!");
+        assertEquals(firstUrl, secondUrl, "Same URL state should return the same URL!");
+        assertEquals(1, urlCache.stats().missCount(), "First lookup should miss!");
+        assertEquals(1, urlCache.stats().hitCount(), "Second lookup should hit!");
+    }
+
+    @Test
+    public void url_differentRendering_returnsDifferentUrls() {
+        // GIVEN
+        StyledMedia.Builder scaled = new StyledMedia.Builder(200, 200).scaleToLongest(120);
+        StyledMedia.Builder cropped = new StyledMedia.Builder(200, 200).autoCrop().scaleToLongest(120);
+
+        // WHEN
+        String scaledUrl = urlCache.url(scaled);
+        String croppedUrl = urlCache.url(cropped);
+
+        // THEN
+        assertEquals(scaled.build().url(), scaledUrl, "Scaled URL should match the built URL!");
+        assertEquals(cropped.build().url(), croppedUrl, "Cropped URL should match the built URL!");
+        assertEquals(2, urlCache.stats().missCount(), "Different renderings should not share a URL!");
+    }
+
+    @Test
+    public void url_invalidDimensions_returnsNullWithoutCaching() {
+        // WHEN
+        String url = urlCache.url(new StyledMedia.Builder(0, 0));
+
+        // THEN
+        assertNull(url, "Invalid dimensions should not have a URL!");
+        assertEquals(0, urlCache.size(), "Missing URLs should not be cached!");
+    }
+
+    @Test
+    public void url_moreUrlsThanMaximumSize_evictsUrls() {
+        // WHEN
+        for (int side = 100; side < 110; side++) {
+            urlCache.url(new StyledMedia.Builder(200, 200).scaleToLongest(side));
+        }
+
+        // THEN
+        assertEquals(8, urlCache.stats().evictionCount(), "Cache should evict down to its maximum size!");
+        assertEquals(2, urlCache.size(), "Cache should hold at most its maximum size!");
+    }
+}
@@ -0,0 +1,61 @@
+package com.kenzie.groupwork.productpage.types;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StyledMediaUrlPrefixTest {
+
+    @Test
+    public void of_sameCdnAndFamily_returnsSamePrefix() {
+        // GIVEN
+        String cdn = new StringBuilder("m.media-amazon.com").toString();
+
+        // WHEN
+        StyledMediaUrlPrefix first = StyledMediaUrlPrefix.of(StyledMediaUrlPrefix.Family.IMAGES,
+            "m.media-amazon.com", null);
+        StyledMediaUrlPrefix second = StyledMediaUrlPrefix.of(StyledMediaUrlPrefix.Family.IMAGES, cdn, "ignored");
+
+        // THEN
+        assertSame(first, second, "Equal CDNs should share one prefix!");
+        assertEquals("https://m.media-amazon.com/images/I/", first.text(), "Prefix should match build()!");
+    }
+
+    @Test
+    public void of_eachFamily_buildsPrefixWithSegment() {
+        // WHEN
+        StyledMediaUrlPrefix s3 = StyledMediaUrlPrefix.of(StyledMediaUrlPrefix.Family.S3, "PROD", "bucket");
+        StyledMediaUrlPrefix global = StyledMediaUrlPrefix.of(StyledMediaUrlPrefix.Family.GLOBAL, "PROD", "01");
+        StyledMediaUrlPrefix noOrgUnit = StyledMediaUrlPrefix.of(StyledMediaUrlPrefix.Family.GLOBAL, "PROD", null);
+
+        // THEN
+        assertEquals("https://PROD/images/S/bucket/", s3.text(), "S3 prefix should include the bucket!");
+        assertEquals("https://PROD/images/G/01/", global.text(), "Global prefix should include the orgUnit!");
+        assertEquals("https://PROD/images/G/null/", noOrgUnit.text(), "Missing orgUnit should match build()!");
+        assertArrayEquals(global.text().getBytes(StandardCharsets.UTF_8), global.utf8(),
+            "Prebuilt bytes should be the UTF-8 prefix!");
+    }
+
+    @Test
+    public void writeUtf8_nonAsciiOrgUnit_matchesBuiltUrl() {
+        // GIVEN
+        StyledMedia.Builder builder = new StyledMedia.Builder(100, 100)
+            .cdn("\u00e9.example.com")
+            .withNameAndOU("caf\u00e9.png", "\u20ac", "1")
+            .scaleToSquare(50);
+        ByteBuffer out = ByteBuffer.allocate(256);
+
+        // WHEN
+        StyledMediaUrlWriter.writeUtf8(builder, out);
+
+        // THEN
+        out.flip();
+        assertEquals(ByteBuffer.wrap(builder.build().url().getBytes(StandardCharsets.UTF_8)), out,
+            "Prefix bytes and encoded suffix should match the built URL!");
+    }
+}
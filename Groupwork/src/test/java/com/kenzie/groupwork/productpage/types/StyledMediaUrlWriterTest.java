@@ -0,0 +1,82 @@
+package com.kenzie.groupwork.productpage.types;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StyledMediaUrlWriterTest {
+
+    @Test
+    public void render_scaledImage_matchesBuiltUrl() {
+        // GIVEN
+        StyledMedia.Builder builder = new StyledMedia.Builder(500, 400)
+            .cdn("m.media-amazon.com")
+            .autoCrop()
+            .scaleToLongest(120);
+
+        // WHEN
+        CharSequence url = StyledMediaUrlWriter.render(builder);
+
+        // THEN
+        assertEquals(builder.build().url(), url.toString(), "Rendered URL should match the built URL!");
+    }
+
+    @Test
+    public void render_pathBasedImage_matchesBuiltUrl() {
+        // GIVEN
+        StyledMedia.Builder builder = new StyledMedia.Builder(660, 200)
+            .withNameAndOU("/kindle/merch/VX-1020.jpg", "01", "515800720")
+            .blur(10);
+
+        // WHEN
+        CharSequence url = StyledMediaUrlWriter.render(builder);
+
+        // THEN
+        assertEquals(builder.build().url(), url.toString(), "Rendered URL should match the built URL!");
+    }
+
+    @Test
+    public void render_invalidDimensions_returnsNull() {
+        // WHEN
+        CharSequence url = StyledMediaUrlWriter.render(new StyledMedia.Builder(0, 100));
+
+        // THEN
+        assertNull(url, "Invalid dimensions should not have a URL!");
+    }
+
+    @Test
+    public void writeUtf8_nonAsciiName_writesUtf8Bytes() {
+        // GIVEN
+        StyledMedia.Builder builder = new StyledMedia.Builder(100, 100)
+            .withNameAndOU("caf\u00e9/\u20ac\ud83d\ude00.png", "01", "1")
+            .scaleToSquare(50);
+        ByteBuffer out = ByteBuffer.allocate(256);
+
+        // WHEN
+        int written = StyledMediaUrlWriter.writeUtf8(builder, out);
+
+        // THEN
+        byte[] expected = builder.build().url().getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, written, "Should return the number of bytes written!");
+        assertEquals(expected.length, out.position(), "Should advance the buffer past the URL!");
+        out.flip();
+        assertEquals(ByteBuffer.wrap(expected), out, "Should write the URL as UTF-8!");
+    }
+
+    @Test
+    public void writeUtf8_bufferTooSmall_throwsAndLeavesBufferUnchanged() {
+        // GIVEN
+        StyledMedia.Builder builder = new StyledMedia.Builder(100, 100).scaleToLongest(50);
+        ByteBuffer out = ByteBuffer.allocate(8);
+
+        // WHEN - THEN
+        assertThrows(BufferOverflowException.class, () -> StyledMediaUrlWriter.writeUtf8(builder, out));
+        assertEquals(0, out.position(), "Buffer position should not move on overflow!");
+    }
+}